@@ -0,0 +1,88 @@
+package com.example.commentservice.benchmark;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 댓글 데이터와 변환기.
+ * 댓글은 실제 컬렉션과 같은 필드 구성의 Document 를 만든 뒤 MappingMongoConverter 로 읽어 생성한다.
+ */
+final class CommentBenchmarkFixtures {
+
+    private static final String CONTENT_ALPHABET = "가나다라마바사아자차카타파하 abcdefghijklmnopqrstuvwxyz0123456789.,!?";
+
+    private CommentBenchmarkFixtures() {
+    }
+
+    static MappingMongoConverter mappingMongoConverter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    /**
+     * 애플리케이션의 Jackson 설정과 같이 LocalDateTime 을 ISO 문자열로 직렬화한다.
+     */
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    static List<Document> commentDocuments(int count, int contentLength, long seed) {
+        Random random = new Random(seed);
+        String postUuid = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+
+        List<Document> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Date createdAt = new Date(now - random.nextInt(86_400_000));
+            documents.add(new Document("_id", new ObjectId())
+                    .append("commentUuid", UUID.randomUUID().toString())
+                    .append("postUuid", postUuid)
+                    .append("memberUuid", UUID.randomUUID().toString())
+                    .append("content", content(random, contentLength))
+                    .append("blind_status", false)
+                    .append("deleted_status", false)
+                    .append("likeCount", (long) random.nextInt(500))
+                    .append("created_at", createdAt)
+                    .append("updated_at", createdAt)
+                    .append("_class", Comment.class.getName()));
+        }
+        return documents;
+    }
+
+    static List<Comment> comments(MappingMongoConverter converter, int count, int contentLength, long seed) {
+        return commentDocuments(count, contentLength, seed).stream()
+                .map(document -> converter.read(Comment.class, document))
+                .toList();
+    }
+
+    private static String content(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(CONTENT_ALPHABET.charAt(random.nextInt(CONTENT_ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.commentservice.benchmark;
+
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 한 페이지의 Comment -> CommentResDto 변환과 정렬 조건 생성 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommentDtoBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    @Param({"80", "500"})
+    private int contentLength;
+
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        comments = CommentBenchmarkFixtures.comments(
+                CommentBenchmarkFixtures.mappingMongoConverter(), pageSize, contentLength, 42L);
+    }
+
+    @Benchmark
+    public List<CommentResDto> commentResDtoFromPage() {
+        return comments.stream().map(CommentResDto::from).toList();
+    }
+
+    @Benchmark
+    public void commentSortTypeGetSort(Blackhole blackhole) {
+        blackhole.consume(CommentSortType.RECENT.getSort());
+        blackhole.consume(CommentSortType.LIKE.getSort());
+    }
+}
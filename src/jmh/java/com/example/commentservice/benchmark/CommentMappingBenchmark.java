@@ -0,0 +1,50 @@
+package com.example.commentservice.benchmark;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 결과 Document 한 페이지를 MappingMongoConverter 로 Comment 엔티티에 매핑하는 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentMappingBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    @Param({"80", "500"})
+    private int contentLength;
+
+    private MappingMongoConverter converter;
+    private List<Document> documents;
+
+    @Setup
+    public void setUp() {
+        converter = CommentBenchmarkFixtures.mappingMongoConverter();
+        documents = CommentBenchmarkFixtures.commentDocuments(pageSize, contentLength, 42L);
+    }
+
+    @Benchmark
+    public List<Comment> readCommentPage() {
+        List<Comment> comments = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            comments.add(converter.read(Comment.class, document));
+        }
+        return comments;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.commentservice.benchmark;
+
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.infrastructure.CommentViewMapper;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 한 페이지를 응답 DTO 로 만드는 두 경로의 비용 비교.
+ * entityThenDto: 전체 Document -> Comment(MappingMongoConverter) -> CommentResDto.from
+ * projectedView: projection 된 Document -> CommentViewMapper
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 페이지당 할당량 차이를 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentReadModelBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    @Param({"80", "500"})
+    private int contentLength;
+
+    private MappingMongoConverter converter;
+    private List<Document> fullDocuments;
+    private List<Document> projectedDocuments;
+
+    @Setup
+    public void setUp() {
+        converter = CommentBenchmarkFixtures.mappingMongoConverter();
+        fullDocuments = CommentBenchmarkFixtures.commentDocuments(pageSize, contentLength, 42L);
+        projectedDocuments = fullDocuments.stream()
+                .map(document -> {
+                    Document projected = new Document();
+                    CommentViewMapper.PROJECTION.forEach((field, include) -> {
+                        if (!Integer.valueOf(0).equals(include) && document.containsKey(field)) {
+                            projected.append(field, document.get(field));
+                        }
+                    });
+                    return projected;
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public List<CommentResDto> entityThenDto() {
+        List<CommentResDto> comments = new ArrayList<>(fullDocuments.size());
+        for (Document document : fullDocuments) {
+            comments.add(CommentResDto.from(converter.read(Comment.class, document)));
+        }
+        return comments;
+    }
+
+    @Benchmark
+    public List<CommentResDto> projectedView() {
+        List<CommentResDto> comments = new ArrayList<>(projectedDocuments.size());
+        for (Document document : projectedDocuments) {
+            comments.add(CommentViewMapper.toCommentResDto(document));
+        }
+        return comments;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.commentservice.benchmark;
+
+import com.example.commentservice.common.entity.BaseResponseEntity;
+import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 응답(BaseResponseEntity<CommentListPageResDto>)의 Jackson 직렬화 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    @Param({"80", "500"})
+    private int contentLength;
+
+    private ObjectMapper objectMapper;
+    private CommentListPageResDto page;
+    private BaseResponseEntity<CommentListPageResDto> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = CommentBenchmarkFixtures.objectMapper();
+        List<CommentResDto> comments = CommentBenchmarkFixtures.comments(
+                        CommentBenchmarkFixtures.mappingMongoConverter(), pageSize, contentLength, 42L)
+                .stream()
+                .map(CommentResDto::from)
+                .toList();
+        page = new CommentListPageResDto(comments, 0, pageSize, true, 20, 20L * pageSize);
+        response = new BaseResponseEntity<>(page);
+    }
+
+    @Benchmark
+    public byte[] serializeListPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeBaseResponseEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
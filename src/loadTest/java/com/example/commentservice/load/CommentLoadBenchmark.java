@@ -0,0 +1,289 @@
+package com.example.commentservice.load;
+
+import com.example.commentservice.client.post.PostServiceClient;
+import com.example.commentservice.client.post.dto.out.ExistsPostResDto;
+import com.example.commentservice.common.entity.BaseResponseEntity;
+import com.example.commentservice.common.mongo.MongoIndexInitializer;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 서비스 전체를 실제 HTTP 로 호출하는 부하 측정.
+ * Mongo 는 Testcontainers, Kafka 는 EmbeddedKafka 로 띄우고, post-service 는 항상 존재한다고 응답하도록 대체한다.
+ * 게시글별 댓글 수와 요청 대상 게시글을 Zipf 분포로 골라 인기 게시글에 트래픽이 몰리는 상황을 재현한다.
+ *
+ * load.virtualThreads 로 가상 스레드 실행 모드(spring.threads.virtual.enabled, bulkhead 포함)를 켜고 끌 수 있다.
+ *
+ * ./gradlew loadTest -Dload.durationSeconds=60 -Dload.concurrency=64 -Dload.mix=create=10,list=80,like=10
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EmbeddedKafka(partitions = 3, topics = {"comment-created", "comment-deleted"})
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "eureka.client.enabled=false",
+                "logging.level.root=WARN"
+        }
+)
+class CommentLoadBenchmark {
+
+    private enum Operation {
+        CREATE, LIST, LIKE
+    }
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> mongo.getReplicaSetUrl("comment_load"));
+        registry.add("spring.threads.virtual.enabled", () -> Boolean.getBoolean("load.virtualThreads"));
+    }
+
+    @MockitoBean
+    PostServiceClient postServiceClient;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Autowired
+    MongoIndexInitializer mongoIndexInitializer;
+
+    private final int durationSeconds = Integer.getInteger("load.durationSeconds", 30);
+    private final int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+    private final int concurrency = Integer.getInteger("load.concurrency", 32);
+    private final int postCount = Integer.getInteger("load.posts", 1_000);
+    private final int commentCount = Integer.getInteger("load.comments", 50_000);
+    private final double zipfExponent = Double.parseDouble(System.getProperty("load.zipfExponent", "1.1"));
+    private final String mix = System.getProperty("load.mix", "create=10,list=80,like=10");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private List<String> postUuids;
+    private List<List<String>> commentUuidsByPost;
+    private ZipfSampler postSampler;
+
+    @Test
+    void runLoad() throws Exception {
+        given(postServiceClient.existsPost(anyString()))
+                .willReturn(new BaseResponseEntity<>(ExistsPostResDto.from(true)));
+
+        seed();
+        Map<Operation, Integer> weights = parseMix(mix);
+
+        drive(weights, warmupSeconds);
+        long startedAt = System.nanoTime();
+        Map<Operation, EndpointStats> stats = drive(weights, durationSeconds);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        report(stats, elapsedSeconds);
+    }
+
+    /**
+     * 게시글별 댓글 수를 Zipf 비율로 나눠 bulk insert 한다. likeCount 는 0 에서 시작한다.
+     */
+    private void seed() {
+        mongoIndexInitializer.ensureIndexes();
+        postSampler = new ZipfSampler(postCount, zipfExponent);
+        int[] perPost = postSampler.distribute(commentCount);
+
+        postUuids = new ArrayList<>(postCount);
+        commentUuidsByPost = new ArrayList<>(postCount);
+        long now = System.currentTimeMillis();
+        List<Document> batch = new ArrayList<>();
+        for (int post = 0; post < postCount; post++) {
+            String postUuid = UUID.randomUUID().toString();
+            List<String> commentUuids = new ArrayList<>(perPost[post]);
+            postUuids.add(postUuid);
+            commentUuidsByPost.add(commentUuids);
+
+            for (int i = 0; i < perPost[post]; i++) {
+                String commentUuid = UUID.randomUUID().toString();
+                commentUuids.add(commentUuid);
+                Date createdAt = new Date(now - ThreadLocalRandom.current().nextLong(30L * 86_400_000));
+                batch.add(new Document("commentUuid", commentUuid)
+                        .append("postUuid", postUuid)
+                        .append("memberUuid", UUID.randomUUID().toString())
+                        .append("content", "load test comment " + i)
+                        .append("blind_status", false)
+                        .append("deleted_status", false)
+                        .append("likeCount", 0L)
+                        .append("created_at", createdAt)
+                        .append("updated_at", createdAt));
+                if (batch.size() == 5_000) {
+                    mongoTemplate.getCollection("comment").insertMany(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.getCollection("comment").insertMany(batch);
+        }
+    }
+
+    private Map<Operation, EndpointStats> drive(Map<Operation, Integer> weights, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Map<Operation, EndpointStats>>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    Map<Operation, EndpointStats> local = new EnumMap<>(Operation.class);
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = pick(weights, totalWeight);
+                        long started = System.nanoTime();
+                        boolean success = call(operation);
+                        local.computeIfAbsent(operation, key -> new EndpointStats())
+                                .record(System.nanoTime() - started, success);
+                    }
+                    return local;
+                }));
+            }
+
+            Map<Operation, EndpointStats> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, EndpointStats>> future : futures) {
+                future.get().forEach((operation, stats) ->
+                        merged.computeIfAbsent(operation, key -> new EndpointStats()).merge(stats));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private boolean call(Operation operation) {
+        int post = postSampler.next();
+        String postUuid = postUuids.get(post);
+        String memberUuid = UUID.randomUUID().toString();
+        String baseUrl = "http://localhost:" + port;
+
+        HttpRequest request = switch (operation) {
+            case CREATE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/comment/post/" + postUuid))
+                    .header("X-Member-UUID", memberUuid)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"content\":\"load test comment\"}"))
+                    .build();
+            case LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/comment/post/" + postUuid + "/list?page=0"))
+                    .header("X-Member-UUID", memberUuid)
+                    .GET()
+                    .build();
+            case LIKE -> {
+                List<String> commentUuids = commentUuidsByPost.get(post);
+                String commentUuid = commentUuids.get(ThreadLocalRandom.current().nextInt(commentUuids.size()));
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/comment-like/" + commentUuid))
+                        .header("X-Member-UUID", memberUuid)
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+            }
+        };
+
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void report(Map<Operation, EndpointStats> stats, double elapsedSeconds) throws IOException {
+        Path reportDir = Path.of("build", "reports", "load");
+        Files.createDirectories(reportDir);
+        Path csv = reportDir.resolve("comment-load-" + System.currentTimeMillis() + ".csv");
+
+        String header = String.format("%-8s %10s %8s %10s %9s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        System.out.printf("%n[comment load] duration=%.1fs, concurrency=%d, posts=%d, comments=%d, zipf=%.2f, mix=%s, virtualThreads=%s%n",
+                elapsedSeconds, concurrency, postCount, commentCount, zipfExponent, mix,
+                Boolean.getBoolean("load.virtualThreads"));
+        System.out.println(header);
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csv))) {
+            writer.println("endpoint,requests,errors,throughput,p50_ms,p90_ms,p99_ms,max_ms");
+            stats.forEach((operation, endpoint) -> {
+                double throughput = endpoint.count() / elapsedSeconds;
+                double p50 = endpoint.percentileMillis(50);
+                double p90 = endpoint.percentileMillis(90);
+                double p99 = endpoint.percentileMillis(99);
+                double max = endpoint.percentileMillis(100);
+
+                System.out.printf("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        operation, endpoint.count(), endpoint.errors(), throughput, p50, p90, p99, max);
+                writer.printf("%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f%n",
+                        operation, endpoint.count(), endpoint.errors(), throughput, p50, p90, p99, max);
+            });
+        }
+        System.out.println("[comment load] report: " + csv.toAbsolutePath());
+    }
+
+    private static Operation pick(Map<Operation, Integer> weights, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("mix weight 합계가 올바르지 않습니다: " + weights);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix 에 실행할 요청이 없습니다: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.commentservice.load;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 1..n 을 Zipf(s) 분포로 뽑는다. 누적 분포를 미리 계산해 두고 이진 탐색으로 샘플링한다.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * 0 부터 시작하는 인덱스를 반환한다. 0 이 가장 자주 선택된다.
+     */
+    int next() {
+        int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    /**
+     * 전체 total 을 n 개 순위에 Zipf 비율로 나눈 개수. 각 순위는 최소 1 개를 갖는다.
+     */
+    int[] distribute(int total) {
+        int[] counts = new int[cumulative.length];
+        double previous = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            counts[i] = Math.max(1, (int) Math.round((cumulative[i] - previous) * total));
+            previous = cumulative[i];
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.commentservice.client.post;
+
+import com.example.commentservice.client.post.dto.out.ExistsPostResDto;
+import com.example.commentservice.common.entity.BaseResponseEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 존재 여부를 로컬 캐시로 판단한다.
+ * 게시글 생성 / 삭제 이벤트로 미리 채워지고, 캐시에 없을 때만 post-service 를 호출한다.
+ * 같은 게시글에 대한 동시 조회는 Caffeine 이 하나의 호출로 합친다.
+ * post-service 로 확인한 "없음" 은 곧 생성될 수 있으므로 negative-ttl 동안만 유지한다.
+ */
+@Slf4j
+@Component
+public class PostExistenceCache {
+
+    private final PostServiceClient postServiceClient;
+    private final Cache<String, PostExistence> cache;
+    private final boolean failOpen;
+    private final Counter lookupFailedCounter;
+
+    public PostExistenceCache(
+            PostServiceClient postServiceClient,
+            MeterRegistry meterRegistry,
+            @Value("${comment.cache.post-existence.maximum-size:100000}") long maximumSize,
+            @Value("${comment.cache.post-existence.positive-ttl-seconds:3600}") long positiveTtlSeconds,
+            @Value("${comment.cache.post-existence.negative-ttl-seconds:30}") long negativeTtlSeconds,
+            @Value("${comment.cache.post-existence.fail-open:true}") boolean failOpen
+    ) {
+        this.postServiceClient = postServiceClient;
+        this.failOpen = failOpen;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PostExistenceExpiry(
+                        Duration.ofSeconds(positiveTtlSeconds).toNanos(), Duration.ofSeconds(negativeTtlSeconds).toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postExistence");
+        this.lookupFailedCounter = Counter.builder("post.existence.lookup.failed")
+                .description("post-service 조회에 실패한 게시글 존재 확인 수")
+                .register(meterRegistry);
+    }
+
+    public boolean exists(String postUuid) {
+        try {
+            return cache.get(postUuid, this::load).exists();
+        } catch (RuntimeException e) {
+            lookupFailedCounter.increment();
+            log.warn("게시글 존재 여부 조회 실패: postUuid={}, failOpen={}", postUuid, failOpen, e);
+            return failOpen;
+        }
+    }
+
+    public void markCreated(String postUuid) {
+        cache.put(postUuid, new PostExistence(true, true));
+    }
+
+    public void markDeleted(String postUuid) {
+        cache.put(postUuid, new PostExistence(false, true));
+    }
+
+    private PostExistence load(String postUuid) {
+        BaseResponseEntity<ExistsPostResDto> response = postServiceClient.existsPost(postUuid);
+        boolean exists = response != null && response.result() != null && response.result().isExistsPost();
+        return new PostExistence(exists, false);
+    }
+
+    /**
+     * @param confirmed 이벤트로 확정된 값인지 여부
+     */
+    private record PostExistence(boolean exists, boolean confirmed) {
+    }
+
+    private record PostExistenceExpiry(long positiveTtlNanos, long negativeTtlNanos) implements Expiry<String, PostExistence> {
+
+        @Override
+        public long expireAfterCreate(String postUuid, PostExistence existence, long currentTime) {
+            return existence.exists() || existence.confirmed() ? positiveTtlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String postUuid, PostExistence existence, long currentTime, long currentDuration) {
+            return expireAfterCreate(postUuid, existence, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String postUuid, PostExistence existence, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.commentservice.common.concurrent;
+
+import com.example.commentservice.common.exception.BaseException;
+import com.example.commentservice.common.response.BaseResponseStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 자원(Mongo 커넥션 풀, Feign 클라이언트)에 동시에 들어갈 수 있는 요청 수를 제한하는 세마포어.
+ * 가상 스레드는 개수 제한이 없으므로, 허용량을 넘는 요청은 acquire-timeout 동안만 기다린 뒤 503 으로 거절한다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Counter rejectedCounter;
+
+    public Bulkhead(String name, int maxConcurrent, long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        Gauge.builder("bulkhead.in-use", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("bulkhead 를 통과해 실행 중인 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("bulkhead 진입을 기다리는 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("bulkhead.rejected")
+                .description("acquire-timeout 안에 진입하지 못해 거절된 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public void acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new BaseException(BaseResponseStatus.TOO_MANY_CONCURRENT_REQUESTS);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.commentservice.common.concurrent;
+
+import com.example.commentservice.common.exception.BaseException;
+import com.example.commentservice.common.response.BaseResponseStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 조회가 동시에 들어오면 먼저 들어온 호출(leader)만 loader 를 실행하고,
+ * 나머지 호출(follower)은 그 결과(또는 예외)를 함께 받는다. 결과는 보관하지 않으므로 캐시가 아니며,
+ * 호출이 끝나면 키는 바로 제거된다.
+ * follower 는 키별 timeout 만큼만 기다린다. 넘으면 기본(REJECT)으로는 요청을 거절하는데, 느린 leader 는 대개
+ * 저장소가 이미 느리다는 뜻이어서 follower 마다 직접 조회하면 부하가 follower 수만큼 늘기 때문이다.
+ * LOAD 로 두면 timeout 된 follower 가 직접 loader 를 실행한다.
+ */
+public class SingleFlight<K, V> {
+
+    public enum OnTimeout {
+        REJECT, LOAD
+    }
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMs;
+    private final OnTimeout onTimeout;
+
+    private final LongAdder leaderCalls = new LongAdder();
+    private final LongAdder followerCalls = new LongAdder();
+    private final Counter timeoutCounter;
+
+    public SingleFlight(String name, long timeoutMs, MeterRegistry meterRegistry) {
+        this(name, timeoutMs, OnTimeout.REJECT, meterRegistry);
+    }
+
+    public SingleFlight(String name, long timeoutMs, OnTimeout onTimeout, MeterRegistry meterRegistry) {
+        this.timeoutMs = timeoutMs;
+        this.onTimeout = onTimeout;
+
+        FunctionCounter.builder("single-flight.calls", leaderCalls, LongAdder::sum)
+                .description("loader 를 직접 실행한 호출 수")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        FunctionCounter.builder("single-flight.calls", followerCalls, LongAdder::sum)
+                .description("진행 중인 호출의 결과를 함께 받은 호출 수")
+                .tag("name", name)
+                .tag("role", "follower")
+                .register(meterRegistry);
+        Gauge.builder("single-flight.coalescing-ratio", this, SingleFlight::coalescingRatio)
+                .description("전체 호출 중 진행 중인 호출에 합쳐진 비율")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("single-flight.in-flight", inFlight, Map::size)
+                .description("현재 실행 중인 키 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("single-flight.timeout")
+                .description("leader 를 기다리다 timeout 된 호출 수")
+                .tag("name", name)
+                .tag("action", onTimeout.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        return execute(key, timeoutMs, loader);
+    }
+
+    public V execute(K key, long timeoutMs, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            followerCalls.increment();
+            return await(existing, timeoutMs, loader);
+        }
+
+        leaderCalls.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public double coalescingRatio() {
+        long leaders = leaderCalls.sum();
+        long followers = followerCalls.sum();
+        long total = leaders + followers;
+        return total == 0 ? 0 : (double) followers / total;
+    }
+
+    private V await(CompletableFuture<V> flight, long timeoutMs, Supplier<V> loader) {
+        try {
+            return flight.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            if (onTimeout == OnTimeout.LOAD) {
+                return loader.get();
+            }
+            throw new BaseException(BaseResponseStatus.TOO_MANY_CONCURRENT_REQUESTS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("single-flight 대기 중 인터럽트", e);
+        }
+    }
+}
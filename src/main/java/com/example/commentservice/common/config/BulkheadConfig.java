@@ -0,0 +1,160 @@
+package com.example.commentservice.common.config;
+
+import com.example.commentservice.common.concurrent.Bulkhead;
+import feign.Capability;
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서 요청 수만큼 늘어나는 스레드가
+ * Mongo 커넥션 풀과 post-service 호출로 한꺼번에 몰리지 않도록 bulkhead 를 둔다.
+ * Mongo 는 MongoTemplate 을 감싸므로 Spring Data 리포지토리와 custom 리포지토리, 서비스에서 직접 쓰는 템플릿 호출이 모두
+ * 같은 허용량을 나눠 쓴다. 템플릿 내부 호출은 프록시를 거치지 않으므로 한 호출이 허용량을 두 번 차지하지 않는다.
+ * 실제 I/O 가 템플릿 메서드가 끝난 뒤에 일어나는 핸들은 I/O 구간까지 허용량을 잡는다.
+ * bulkOps 는 execute 하는 동안, stream / aggregateStream 은 Stream 을 닫을 때까지 허용량을 차지한다.
+ * getCollection 이 돌려주는 드라이버 컬렉션은 감쌀 수 없으므로 드라이버를 직접 쓰는 조회는 execute(CollectionCallback) 안에서 한다.
+ * ReactiveMongoTemplate 은 이벤트 루프에서 세마포어를 기다릴 수 없으므로 감싸지 않고, 아래 커넥션 풀 크기 제한으로 막는다.
+ * Feign 은 클라이언트 실행을 감싼다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "comment.bulkhead.enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    /**
+     * I/O 없이 설정이나 핸들만 돌려주는 메서드. 허용량이 가득 차도 거절되지 않는다.
+     * indexOps 는 기동 시 인덱스 점검에서만 쓰므로 요청 허용량과 나누지 않는다.
+     */
+    private static final Set<String> PERMIT_FREE_METHODS = Set.of(
+            "getConverter", "getCollectionName", "getMongoDatabaseFactory", "getExceptionTranslator",
+            "getCollection", "indexOps", "toString", "hashCode", "equals");
+
+    @Bean
+    public Bulkhead mongoBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${comment.bulkhead.mongo.max-concurrent:100}") int maxConcurrent,
+            @Value("${comment.bulkhead.mongo.acquire-timeout-ms:1000}") long acquireTimeoutMs
+    ) {
+        return new Bulkhead("mongo", maxConcurrent, acquireTimeoutMs, meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead feignBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${comment.bulkhead.feign.max-concurrent:50}") int maxConcurrent,
+            @Value("${comment.bulkhead.feign.acquire-timeout-ms:500}") long acquireTimeoutMs
+    ) {
+        return new Bulkhead("feign", maxConcurrent, acquireTimeoutMs, meterRegistry);
+    }
+
+    /**
+     * bulkhead 허용량보다 풀이 작으면 드라이버 대기열에서 다시 막히므로 풀 크기를 함께 맞춘다.
+     * blocking / reactive MongoClient 모두 이 설정을 쓰므로 reactive 조회의 동시 실행 수도 풀 크기로 제한된다.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoConnectionPoolCustomizer(
+            @Value("${comment.bulkhead.mongo.max-concurrent:100}") int maxPoolSize,
+            @Value("${comment.bulkhead.mongo.pool-max-wait-ms:2000}") long maxWaitMs
+    ) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxPoolSize)
+                .maxWaitTime(maxWaitMs, TimeUnit.MILLISECONDS));
+    }
+
+    @Bean
+    public static BeanPostProcessor mongoTemplateBulkheadPostProcessor(
+            @Qualifier("mongoBulkhead") ObjectProvider<Bulkhead> mongoBulkhead) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof MongoTemplate mongoTemplate)) {
+                    return bean;
+                }
+                return bulkheadedMongoTemplate(mongoTemplate, mongoBulkhead::getObject);
+            }
+        };
+    }
+
+    static MongoTemplate bulkheadedMongoTemplate(MongoTemplate mongoTemplate, Supplier<Bulkhead> mongoBulkhead) {
+        ProxyFactory proxyFactory = new ProxyFactory(mongoTemplate);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            String methodName = invocation.getMethod().getName();
+            if (PERMIT_FREE_METHODS.contains(methodName)) {
+                return invocation.proceed();
+            }
+            if (methodName.equals("bulkOps")) {
+                return bulkheadedBulkOperations((BulkOperations) invocation.proceed(), mongoBulkhead.get());
+            }
+            Bulkhead bulkhead = mongoBulkhead.get();
+            bulkhead.acquire();
+            boolean releaseOnClose = false;
+            try {
+                Object result = invocation.proceed();
+                if (result instanceof Stream<?> stream) {
+                    // 커서는 Stream 을 닫을 때까지 열려 있으므로 허용량도 그때 돌려준다.
+                    releaseOnClose = true;
+                    return stream.onClose(bulkhead::release);
+                }
+                return result;
+            } finally {
+                if (!releaseOnClose) {
+                    bulkhead.release();
+                }
+            }
+        });
+        return (MongoTemplate) proxyFactory.getProxy();
+    }
+
+    /**
+     * insert / updateOne 같은 builder 메서드는 요청을 모으기만 하므로 execute 만 허용량을 잡는다.
+     */
+    private static BulkOperations bulkheadedBulkOperations(BulkOperations bulkOperations, Bulkhead bulkhead) {
+        ProxyFactory proxyFactory = new ProxyFactory(bulkOperations);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (!invocation.getMethod().getName().equals("execute")) {
+                return invocation.proceed();
+            }
+            bulkhead.acquire();
+            try {
+                return invocation.proceed();
+            } finally {
+                bulkhead.release();
+            }
+        });
+        return (BulkOperations) proxyFactory.getProxy();
+    }
+
+    @Bean
+    public Capability feignBulkheadCapability(@Qualifier("feignBulkhead") Bulkhead feignBulkhead) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return (request, options) -> {
+                    feignBulkhead.acquire();
+                    try {
+                        return client.execute(request, options);
+                    } finally {
+                        feignBulkhead.release();
+                    }
+                };
+            }
+        };
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.commentservice.common.config;
 
-import com.example.commentservice.common.kafka.event.CommentCreatedEvent;
-import com.example.commentservice.common.kafka.event.CommentDeletedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,12 +9,17 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 모든 이벤트가 하나의 producer(버퍼 / 커넥션)를 공유하도록 factory 와 template 을 하나만 등록한다.
+ * idempotence 와 acks=all 로 재전송 시 중복 / 순서 역전을 막고, linger / batch / 압축으로 처리량을 높인다.
+ */
 @EnableKafka
 @Configuration
 public class KafkaProducerConfig {
@@ -23,32 +27,55 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServer;
 
+    @Value("${spring.kafka.producer.acks:all}")
+    private String acks;
+
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${spring.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${spring.kafka.producer.buffer-memory:33554432}")
+    private long bufferMemory;
+
+    @Value("${spring.kafka.producer.properties.linger.ms:20}")
+    private int lingerMs;
+
+    @Value("${spring.kafka.producer.properties.max.block.ms:1000}")
+    private long maxBlockMs;
+
+    @Value("${spring.kafka.producer.properties.delivery.timeout.ms:30000}")
+    private int deliveryTimeoutMs;
+
     @Bean
     public Map<String, Object> producerConfigs() {
         HashMap<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServer);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, acks);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        // 버퍼가 가득 찼을 때 호출 스레드가 무기한 대기하지 않도록 max.block.ms 로 상한을 둔다.
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        config.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
         return config;
     }
 
     @Bean
-    public ProducerFactory<String, CommentCreatedEvent> commentCreatedEventProducerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfigs());
-    }
-
-    @Bean
-    public KafkaTemplate<String, CommentCreatedEvent> commentCreatedEventKafkaTemplate() {
-        return new KafkaTemplate<>(commentCreatedEventProducerFactory());
-    }
-
-    @Bean
-    public ProducerFactory<String, CommentDeletedEvent> commentDeletedEventProducerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfigs());
+    public ProducerFactory<String, Object> producerFactory(MeterRegistry meterRegistry) {
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(producerConfigs());
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, CommentDeletedEvent> commentDeletedEventKafkaTemplate() {
-        return new KafkaTemplate<>(commentDeletedEventProducerFactory());
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
 }
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class CommentCreatedEvent {
 
+    private String postUuid;
     private String memberUuid;
     private String commentUuid;
     private Boolean deleted;
@@ -19,7 +20,9 @@ public class CommentCreatedEvent {
 
     @Builder
     public CommentCreatedEvent(
-            String memberUuid, String commentUuid, Boolean deleted, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            String postUuid, String memberUuid, String commentUuid, Boolean deleted,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.postUuid = postUuid;
         this.memberUuid = memberUuid;
         this.commentUuid = commentUuid;
         this.deleted = deleted;
@@ -29,6 +32,7 @@ public class CommentCreatedEvent {
 
     public static CommentCreatedEvent from(Comment comment) {
         return CommentCreatedEvent.builder()
+                .postUuid(comment.getPostUuid())
                 .memberUuid(comment.getMemberUuid())
                 .commentUuid(comment.getCommentUuid())
                 .deleted(comment.isDeleted_status())
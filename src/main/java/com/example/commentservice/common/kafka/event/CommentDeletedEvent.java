@@ -9,14 +9,16 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class CommentDeletedEvent {
 
+    private String postUuid;
     private String memberUuid;
     private String commentUuid;
     private Boolean deleted;
 
     @Builder
     public CommentDeletedEvent(
-            String memberUuid, String commentUuid, Boolean deleted
+            String postUuid, String memberUuid, String commentUuid, Boolean deleted
     ) {
+        this.postUuid = postUuid;
         this.memberUuid = memberUuid;
         this.commentUuid = commentUuid;
         this.deleted = deleted;
@@ -25,6 +27,7 @@ public class CommentDeletedEvent {
     public static CommentDeletedEvent from(Comment comment) {
 
         return CommentDeletedEvent.builder()
+                .postUuid(comment.getPostUuid())
                 .memberUuid(comment.getMemberUuid())
                 .commentUuid(comment.getCommentUuid())
                 .deleted(comment.isDeleted_status())
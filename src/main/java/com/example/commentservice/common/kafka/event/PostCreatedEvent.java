@@ -0,0 +1,17 @@
+package com.example.commentservice.common.kafka.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostCreatedEvent {
+
+    private String postUuid;
+
+    @Builder
+    public PostCreatedEvent(String postUuid) {
+        this.postUuid = postUuid;
+    }
+}
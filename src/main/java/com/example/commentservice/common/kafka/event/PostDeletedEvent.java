@@ -0,0 +1,17 @@
+package com.example.commentservice.common.kafka.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostDeletedEvent {
+
+    private String postUuid;
+
+    @Builder
+    public PostDeletedEvent(String postUuid) {
+        this.postUuid = postUuid;
+    }
+}
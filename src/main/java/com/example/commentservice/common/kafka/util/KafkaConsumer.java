@@ -0,0 +1,60 @@
+package com.example.commentservice.common.kafka.util;
+
+import com.example.commentservice.client.post.PostExistenceCache;
+import com.example.commentservice.common.kafka.event.PostCreatedEvent;
+import com.example.commentservice.common.kafka.event.PostDeletedEvent;
+import com.example.commentservice.domain.comment.application.PostCommentCascadeDeleter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 생성 / 삭제 이벤트로 게시글 존재 캐시를 갱신하고, 삭제된 게시글의 댓글을 정리한다.
+ * 캐시는 모든 인스턴스가 각자 갱신해야 하므로 인스턴스마다 다른 consumer group 을,
+ * 댓글 정리는 한 인스턴스만 처리하면 되므로 공유 consumer group 을 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KafkaConsumer {
+
+    private final PostExistenceCache postExistenceCache;
+    private final PostCommentCascadeDeleter postCommentCascadeDeleter;
+
+    @KafkaListener(
+            topics = "${spring.kafka.topics.post-created}",
+            groupId = "${spring.kafka.consumer.post-cache-group-id}",
+            properties = "spring.json.value.default.type=com.example.commentservice.common.kafka.event.PostCreatedEvent"
+    )
+    public void consumePostCreatedEvent(PostCreatedEvent postCreatedEvent) {
+        if (postCreatedEvent == null || postCreatedEvent.getPostUuid() == null) {
+            return;
+        }
+        postExistenceCache.markCreated(postCreatedEvent.getPostUuid());
+    }
+
+    @KafkaListener(
+            topics = "${spring.kafka.topics.post-deleted}",
+            groupId = "${spring.kafka.consumer.post-cache-group-id}",
+            properties = "spring.json.value.default.type=com.example.commentservice.common.kafka.event.PostDeletedEvent"
+    )
+    public void consumePostDeletedEvent(PostDeletedEvent postDeletedEvent) {
+        if (postDeletedEvent == null || postDeletedEvent.getPostUuid() == null) {
+            return;
+        }
+        postExistenceCache.markDeleted(postDeletedEvent.getPostUuid());
+    }
+
+    @KafkaListener(
+            topics = "${spring.kafka.topics.post-deleted}",
+            groupId = "${spring.kafka.consumer.cascade-group-id}",
+            properties = "spring.json.value.default.type=com.example.commentservice.common.kafka.event.PostDeletedEvent"
+    )
+    public void consumePostDeletedEventForCascade(PostDeletedEvent postDeletedEvent) {
+        if (postDeletedEvent == null || postDeletedEvent.getPostUuid() == null) {
+            return;
+        }
+        postCommentCascadeDeleter.submit(postDeletedEvent.getPostUuid());
+    }
+}
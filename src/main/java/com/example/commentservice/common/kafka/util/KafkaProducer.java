@@ -2,60 +2,215 @@ package com.example.commentservice.common.kafka.util;
 
 import com.example.commentservice.common.kafka.event.CommentCreatedEvent;
 import com.example.commentservice.common.kafka.event.CommentDeletedEvent;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.BufferExhaustedException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 전송 결과는 이벤트마다 로그로 남기지 않고 topic 별 Micrometer 지표(kafka.producer.send 타이머,
+ * kafka.producer.records 카운터)로 집계한다. 개별 이벤트 로그는 DEBUG 에서 log-sample-rate 건당 1건만 남기고,
+ * 실패는 topic / 예외 종류별로 모아 주기적으로 요약한다.
+ * 지표는 생성 시점에 (topic, result) 조합별로 만들어 두고, 전송마다 registry 에서 다시 찾지 않는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KafkaProducer {
 
-    @Value("${spring.kafka.topics.comment-created}")
-    private String commentCreatedTopic;
+    private final String commentCreatedTopic;
+    private final String commentDeletedTopic;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Semaphore inFlightPermits;
+    private final long acquireTimeoutMs;
+    private final Counter bufferExhaustedCounter;
+    private final Counter backpressureRejectedCounter;
+    private final MeterRegistry meterRegistry;
+    private final long logSampleRate;
+    private final AtomicLong logSequence = new AtomicLong();
+    private final Map<FailureKey, FailureStats> failures = new ConcurrentHashMap<>();
+    private final Map<String, TopicMeters> topicMeters;
 
-    @Value("${spring.kafka.topics.comment-deleted}")
-    private String commentDeletedTopic;
+    public KafkaProducer(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.kafka.topics.comment-created}") String commentCreatedTopic,
+            @Value("${spring.kafka.topics.comment-deleted}") String commentDeletedTopic,
+            @Value("${spring.kafka.backpressure.max-in-flight-records:10000}") int maxInFlightRecords,
+            @Value("${spring.kafka.backpressure.acquire-timeout-ms:500}") long acquireTimeoutMs,
+            @Value("${spring.kafka.logging.sample-rate:100}") long logSampleRate
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.commentCreatedTopic = commentCreatedTopic;
+        this.commentDeletedTopic = commentDeletedTopic;
+        this.logSampleRate = Math.max(1, logSampleRate);
+        this.inFlightPermits = new Semaphore(maxInFlightRecords);
+        this.acquireTimeoutMs = acquireTimeoutMs;
 
-    private final KafkaTemplate<String, CommentCreatedEvent> commentCreatedEventKafkaTemplate;
-    private final KafkaTemplate<String, CommentDeletedEvent> commentDeletedEventKafkaTemplate;
+        Gauge.builder("kafka.producer.in-flight", inFlightPermits, permits -> maxInFlightRecords - permits.availablePermits())
+                .description("전송 후 ack 를 기다리는 레코드 수")
+                .register(meterRegistry);
+        this.bufferExhaustedCounter = Counter.builder("kafka.producer.buffer.exhausted")
+                .description("producer 버퍼가 가득 차 max.block.ms 안에 전송하지 못한 레코드 수")
+                .register(meterRegistry);
+        this.backpressureRejectedCounter = Counter.builder("kafka.producer.backpressure.rejected")
+                .description("in-flight 상한에 걸려 전송하지 않은 레코드 수")
+                .register(meterRegistry);
+        Map<String, TopicMeters> meters = new HashMap<>();
+        for (String topic : List.of(commentCreatedTopic, commentDeletedTopic)) {
+            meters.computeIfAbsent(topic, name -> TopicMeters.register(meterRegistry, name));
+        }
+        this.topicMeters = Map.copyOf(meters);
+    }
+
+    public CompletableFuture<SendResult<String, Object>> sendCommentCreatedEvent(CommentCreatedEvent commentCreatedEvent) {
+        return send(commentCreatedTopic, commentCreatedEvent.getPostUuid(), commentCreatedEvent);
+    }
 
-    public void sendCommentCreatedEvent(CommentCreatedEvent commentCreatedEvent) {
+    public CompletableFuture<SendResult<String, Object>> sendCommentDeletedEvent(CommentDeletedEvent commentDeletedEvent) {
+        return send(commentDeletedTopic, commentDeletedEvent.getPostUuid(), commentDeletedEvent);
+    }
+
+    /**
+     * postUuid 를 key 로 전송해 같은 게시글의 이벤트가 같은 파티션에서 순서대로 처리되도록 한다.
+     * ack 를 기다리는 레코드가 상한에 도달하면 acquire-timeout 동안만 기다리고 실패한 future 를 반환해 호출자가 재시도하도록 한다.
+     */
+    private CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object event) {
+        boolean sampled = log.isDebugEnabled() && logSequence.incrementAndGet() % logSampleRate == 0;
+        if (sampled) {
+            log.debug("Kafka 메시지 전송 시작: topic={}, key={}, event={}", topic, key, event);
+        }
 
-        log.info("Kafka 메시지 전송 시작: {}", commentCreatedEvent);
+        if (!acquirePermit()) {
+            backpressureRejectedCounter.increment();
+            KafkaException rejected = new KafkaException("Kafka in-flight 상한 초과로 전송하지 않음: topic=" + topic);
+            recordFailure(topic, rejected);
+            return CompletableFuture.failedFuture(rejected);
+        }
 
-        CompletableFuture<SendResult<String, CommentCreatedEvent>> future
-                = commentCreatedEventKafkaTemplate.send(commentCreatedTopic , commentCreatedEvent);
+        TopicMeters meters = topicMeters.get(topic);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<SendResult<String, Object>> future;
+        try {
+            future = kafkaTemplate.send(topic, key, event);
+        } catch (RuntimeException e) {
+            inFlightPermits.release();
+            sample.stop(meters.failureTimer());
+            recordFailure(topic, e);
+            return CompletableFuture.failedFuture(e);
+        }
 
         future.whenComplete((result, ex) -> {
+            inFlightPermits.release();
             if(ex != null) {
-                log.error("Kafka 메시지 전송 실패: {}", commentCreatedEvent, ex);
+                sample.stop(meters.failureTimer());
+                recordFailure(topic, ex);
             } else {
-                log.info("Kafka 메시지 전송 성공: offset={}, topic={}",
-                        result.getRecordMetadata().offset(), result.getRecordMetadata().topic());
+                sample.stop(meters.successTimer());
+                meters.successRecords().increment();
+                if (sampled) {
+                    log.debug("Kafka 메시지 전송 성공: offset={}, topic={}",
+                            result.getRecordMetadata().offset(), result.getRecordMetadata().topic());
+                }
             }
         });
+        return future;
     }
 
-    public void sendCommentDeletedEvent(CommentDeletedEvent commentDeletedEvent) {
-
-        log.info("Kafka 메시지 전송 시작: {}", commentDeletedEvent);
+    /**
+     * 직전 보고 이후 누적된 전송 실패를 topic / 예외 종류별 한 줄로 요약한다.
+     */
+    @Scheduled(fixedDelayString = "${spring.kafka.logging.failure-report-interval-ms:10000}")
+    public void reportFailures() {
+        failures.forEach((failureKey, stats) -> {
+            long failed = stats.count.sumThenReset();
+            if (failed > 0) {
+                log.error("Kafka 메시지 전송 실패 요약: topic={}, exception={}, count={}, lastMessage={}",
+                        failureKey.topic(), failureKey.exception(), failed, stats.lastMessage);
+            }
+        });
+    }
 
-        CompletableFuture<SendResult<String, CommentDeletedEvent>> future
-                = commentDeletedEventKafkaTemplate.send(commentDeletedTopic , commentDeletedEvent);
+    private boolean acquirePermit() {
+        try {
+            return inFlightPermits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 
-        future.whenComplete((result, ex) -> {
-            if(ex != null) {
-                log.error("Kafka 메시지 전송 실패: {}", commentDeletedEvent, ex);
-            } else {
-                log.info("Kafka 메시지 전송 성공: offset={}, topic={}",
-                        result.getRecordMetadata().offset(), result.getRecordMetadata().topic());
+    private void recordFailure(String topic, Throwable ex) {
+        Throwable rootCause = ex;
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            rootCause = cause;
+            if (cause instanceof BufferExhaustedException) {
+                bufferExhaustedCounter.increment();
+                break;
             }
-        });
+        }
+        topicMeters.get(topic).failureRecords().increment();
+
+        FailureStats stats = failures.computeIfAbsent(
+                new FailureKey(topic, rootCause.getClass().getSimpleName()), key -> new FailureStats());
+        stats.count.increment();
+        stats.lastMessage = rootCause.getMessage();
+        if (log.isDebugEnabled()) {
+            log.debug("Kafka 메시지 전송 실패: topic={}", topic, ex);
+        }
+    }
+
+    private record TopicMeters(Timer successTimer, Timer failureTimer, Counter successRecords, Counter failureRecords) {
+
+        static TopicMeters register(MeterRegistry meterRegistry, String topic) {
+            return new TopicMeters(
+                    sendTimer(meterRegistry, topic, "success"),
+                    sendTimer(meterRegistry, topic, "failure"),
+                    recordsCounter(meterRegistry, topic, "success"),
+                    recordsCounter(meterRegistry, topic, "failure"));
+        }
+
+        private static Timer sendTimer(MeterRegistry meterRegistry, String topic, String result) {
+            return Timer.builder("kafka.producer.send")
+                    .description("전송 요청부터 broker ack 까지의 시간")
+                    .tag("topic", topic)
+                    .tag("result", result)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        private static Counter recordsCounter(MeterRegistry meterRegistry, String topic, String result) {
+            return Counter.builder("kafka.producer.records")
+                    .description("전송 결과별 레코드 수")
+                    .tag("topic", topic)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+
+    private record FailureKey(String topic, String exception) {
+    }
+
+    private static class FailureStats {
+        private final LongAdder count = new LongAdder();
+        private volatile String lastMessage;
     }
 }
@@ -0,0 +1,14 @@
+package com.example.commentservice.common.mongo;
+
+import java.util.List;
+
+/**
+ * 컬렉션별로 필요한 인덱스를 선언한다.
+ * 선언된 인덱스는 MongoIndexInitializer 가 애플리케이션 기동 시 생성하고, 실제 인덱스와의 차이를 보고한다.
+ */
+public interface MongoIndexDeclaration {
+
+    String collectionName();
+
+    List<MongoIndexSpec> indexes();
+}
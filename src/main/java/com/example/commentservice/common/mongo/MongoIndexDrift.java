@@ -0,0 +1,15 @@
+package com.example.commentservice.common.mongo;
+
+public record MongoIndexDrift(String collection, String indexName, Type type, String detail) {
+
+    public enum Type {
+        // 선언되었지만 존재하지 않아 새로 생성한 인덱스
+        MISSING,
+        // 이름은 같지만 키 / 옵션이 선언과 다른 인덱스
+        MISMATCHED,
+        // 존재하지만 선언되지 않은 인덱스
+        UNDECLARED,
+        // 생성에 실패한 인덱스 (예: unique 인덱스 대상에 중복 데이터 존재)
+        FAILED
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.commentservice.common.mongo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+
+    private static final String ID_INDEX_NAME = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final List<MongoIndexDeclaration> mongoIndexDeclarations;
+
+    @Value("${mongo.index.bootstrap.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mongo.index.bootstrap.drop-drifted:false}")
+    private boolean dropDrifted;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("Mongo 인덱스 초기화 비활성화");
+            return;
+        }
+        try {
+            List<MongoIndexDrift> drifts = ensureIndexes();
+            drifts.forEach(drift -> log.warn("Mongo 인덱스 불일치: {}", drift));
+            log.info("Mongo 인덱스 초기화 완료: declarations={}, drifts={}", mongoIndexDeclarations.size(), drifts.size());
+        } catch (RuntimeException e) {
+            log.error("Mongo 인덱스 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 선언된 인덱스 중 없는 것은 생성하고, 선언과 다른 인덱스는 drift 로 보고한다.
+     * drop-drifted 가 켜져 있으면 불일치 인덱스는 재생성하고 선언되지 않은 인덱스는 삭제한다.
+     */
+    public List<MongoIndexDrift> ensureIndexes() {
+        List<MongoIndexDrift> drifts = new ArrayList<>();
+        for (MongoIndexDeclaration declaration : mongoIndexDeclarations) {
+            drifts.addAll(ensureIndexes(declaration));
+        }
+        return drifts;
+    }
+
+    private List<MongoIndexDrift> ensureIndexes(MongoIndexDeclaration declaration) {
+        String collection = declaration.collectionName();
+        IndexOperations indexOps = mongoTemplate.indexOps(collection);
+
+        Map<String, Document> existing = new LinkedHashMap<>();
+        mongoTemplate.execute(collection, indexes -> {
+            indexes.listIndexes().forEach(index -> existing.put(index.getString("name"), index));
+            return null;
+        });
+
+        List<MongoIndexDrift> drifts = new ArrayList<>();
+        Set<String> declared = new HashSet<>();
+
+        for (MongoIndexSpec spec : declaration.indexes()) {
+            declared.add(spec.getName());
+            Document current = existing.get(spec.getName());
+
+            if (current == null) {
+                drifts.add(new MongoIndexDrift(collection, spec.getName(), MongoIndexDrift.Type.MISSING,
+                        "created " + spec));
+                createIndex(indexOps, collection, spec, drifts);
+                continue;
+            }
+            if (!spec.matches(current)) {
+                drifts.add(new MongoIndexDrift(collection, spec.getName(), MongoIndexDrift.Type.MISMATCHED,
+                        "expected " + spec + " but was " + current.toJson()));
+                if (dropDrifted) {
+                    indexOps.dropIndex(spec.getName());
+                    createIndex(indexOps, collection, spec, drifts);
+                }
+            }
+        }
+
+        for (Map.Entry<String, Document> entry : existing.entrySet()) {
+            if (ID_INDEX_NAME.equals(entry.getKey()) || declared.contains(entry.getKey())) {
+                continue;
+            }
+            drifts.add(new MongoIndexDrift(collection, entry.getKey(), MongoIndexDrift.Type.UNDECLARED,
+                    entry.getValue().toJson()));
+            if (dropDrifted) {
+                indexOps.dropIndex(entry.getKey());
+            }
+        }
+        return drifts;
+    }
+
+    private void createIndex(
+            IndexOperations indexOps, String collection, MongoIndexSpec spec, List<MongoIndexDrift> drifts) {
+        try {
+            indexOps.ensureIndex(spec.toIndexDefinition());
+        } catch (RuntimeException e) {
+            drifts.add(new MongoIndexDrift(collection, spec.getName(), MongoIndexDrift.Type.FAILED, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.commentservice.common.mongo;
+
+import lombok.Getter;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+@Getter
+public class MongoIndexSpec {
+
+    private final String name;
+    private final Document keys = new Document();
+    private boolean unique;
+    private Document partialFilter;
+
+    private MongoIndexSpec(String name) {
+        this.name = name;
+    }
+
+    public static MongoIndexSpec named(String name) {
+        return new MongoIndexSpec(name);
+    }
+
+    public MongoIndexSpec asc(String field) {
+        keys.append(field, 1);
+        return this;
+    }
+
+    public MongoIndexSpec desc(String field) {
+        keys.append(field, -1);
+        return this;
+    }
+
+    public MongoIndexSpec unique() {
+        this.unique = true;
+        return this;
+    }
+
+    public MongoIndexSpec partial(Document partialFilter) {
+        this.partialFilter = partialFilter;
+        return this;
+    }
+
+    public IndexDefinition toIndexDefinition() {
+        CompoundIndexDefinition definition = new CompoundIndexDefinition(keys);
+        definition.named(name);
+        if (unique) {
+            definition.unique();
+        }
+        if (partialFilter != null) {
+            definition.partial(PartialIndexFilter.of(partialFilter));
+        }
+        return definition;
+    }
+
+    /**
+     * listIndexes 결과와 키 순서, 방향, unique, partial 조건이 모두 같은지 비교한다.
+     */
+    public boolean matches(Document existing) {
+        return sameKeys(existing.get("key", Document.class))
+                && unique == existing.getBoolean("unique", false)
+                && Objects.equals(partialFilter, existing.get("partialFilterExpression", Document.class));
+    }
+
+    private boolean sameKeys(Document existingKeys) {
+        if (existingKeys == null || existingKeys.size() != keys.size()) {
+            return false;
+        }
+        Iterator<Map.Entry<String, Object>> expected = keys.entrySet().iterator();
+        Iterator<Map.Entry<String, Object>> actual = existingKeys.entrySet().iterator();
+        while (expected.hasNext()) {
+            Map.Entry<String, Object> e = expected.next();
+            Map.Entry<String, Object> a = actual.next();
+            if (!e.getKey().equals(a.getKey())
+                    || !(a.getValue() instanceof Number direction)
+                    || ((Number) e.getValue()).intValue() != direction.intValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return name + keys.toJson()
+                + (unique ? " unique" : "")
+                + (partialFilter != null ? " partial" + partialFilter.toJson() : "");
+    }
+}
@@ -16,6 +16,7 @@ public enum BaseResponseStatus {
 
     // 888 : internal server error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, false, 888, "서버에서 요청을 처리하지 못했습니다."),
+    TOO_MANY_CONCURRENT_REQUESTS(HttpStatus.SERVICE_UNAVAILABLE, false, 889, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
     // 999 : validation error
 
@@ -54,7 +55,15 @@ public enum BaseResponseStatus {
 
 
     NOT_FOUND_COMMENT(HttpStatus.NOT_FOUND, false, 2500, "해당 댓글을 찾을 수 없습니다."),
-    ALREADY_EXISTS_COMMENT_LIKE(HttpStatus.CONFLICT, false, 2501, "이미 댓글에 좋아요를 하였습니다.");
+    ALREADY_EXISTS_COMMENT_LIKE(HttpStatus.CONFLICT, false, 2501, "이미 댓글에 좋아요를 하였습니다."),
+    INVALID_COMMENT_CURSOR(HttpStatus.BAD_REQUEST, false, 2502, "유효하지 않은 댓글 커서입니다."),
+    NOT_FOUND_COMMENT_LIKE(HttpStatus.NOT_FOUND, false, 2503, "댓글 좋아요 내역을 찾을 수 없습니다."),
+    TOO_MANY_COMMENT_UUIDS(HttpStatus.BAD_REQUEST, false, 2504, "한 번에 조회할 수 있는 댓글 수를 초과하였습니다."),
+    INVALID_BULK_COMMENT_ITEM(HttpStatus.BAD_REQUEST, false, 2505, "일괄 등록 항목의 형식이 잘못되었습니다."),
+    TOO_MANY_BULK_COMMENTS(HttpStatus.BAD_REQUEST, false, 2506, "한 번에 등록할 수 있는 댓글 수를 초과하였습니다."),
+    FAILED_TO_INSERT_COMMENT(HttpStatus.INTERNAL_SERVER_ERROR, false, 2507, "댓글 저장에 실패하였습니다."),
+    TOO_MANY_POST_UUIDS(HttpStatus.BAD_REQUEST, false, 2508, "한 번에 조회할 수 있는 게시글 수를 초과하였습니다."),
+    POST_COMMENT_COUNT_REBUILD_RUNNING(HttpStatus.CONFLICT, false, 2509, "게시글 댓글 수 재계산이 이미 진행 중입니다.");
 
     /**
      * 3000 : order service error
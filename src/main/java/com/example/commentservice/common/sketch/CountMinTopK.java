@@ -0,0 +1,134 @@
+package com.example.commentservice.common.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * count-min sketch 로 키별 조회 수를 근사하고, 추정치가 큰 후보 키만 따로 유지해 상위 K 개를 구한다.
+ * 메모리는 depth * width 개의 카운터와 후보 목록(최대 K 의 몇 배)으로 고정되며, 키 수와 무관하다.
+ * 후보가 K 개 이상이면 새 키는 추정치가 현재 상위 K 번째 값보다 클 때만 후보에 들어가, 한 번씩 조회된 긴 꼬리 키가
+ * 후보 목록을 채우고 정리를 반복시키지 않는다.
+ * decay 를 주기적으로 호출하면 모든 값이 절반으로 줄어 최근 조회가 더 큰 비중을 가진다.
+ */
+public class CountMinTopK<K> {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+    private static final int CANDIDATE_FACTOR = 4;
+
+    private final int depth;
+    private final int width;
+    private final int k;
+    private final AtomicLongArray counters;
+    private final Map<K, Long> candidates = new ConcurrentHashMap<>();
+
+    // 마지막으로 정렬했을 때의 상위 K 번째 추정치. 새 후보의 진입 기준이다.
+    private volatile long admissionFloor;
+
+    public CountMinTopK(int depth, int width, int k) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.k = k;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    /**
+     * 조회 1 회를 기록하고 현재 추정치를 반환한다.
+     * 추정치가 가장 작은 행만 올리는 conservative update 로 해시 충돌에 의한 과대 추정을 줄인다.
+     */
+    public long add(K key) {
+        int hash = key.hashCode();
+        int[] indexes = new int[depth];
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = row * width + bucket(hash, row);
+            min = Math.min(min, counters.get(indexes[row]));
+        }
+        long estimate = min + 1;
+        for (int index : indexes) {
+            counters.accumulateAndGet(index, estimate, Math::max);
+        }
+        offer(key, estimate);
+        return estimate;
+    }
+
+    public long estimate(K key) {
+        int hash = key.hashCode();
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(row * width + bucket(hash, row)));
+        }
+        return min;
+    }
+
+    /**
+     * 추정치가 minCount 이상인 후보 중 상위 K 개를 추정치 내림차순으로 반환한다.
+     */
+    public List<Map.Entry<K, Long>> topK(long minCount) {
+        List<Map.Entry<K, Long>> top = new ArrayList<>();
+        candidates.forEach((key, count) -> {
+            if (count >= minCount) {
+                top.add(Map.entry(key, count));
+            }
+        });
+        top.sort(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()));
+        return top.size() > k ? List.copyOf(top.subList(0, k)) : top;
+    }
+
+    long admissionFloor() {
+        return admissionFloor;
+    }
+
+    int candidateCount() {
+        return candidates.size();
+    }
+
+    public synchronized void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.updateAndGet(i, count -> count >> 1);
+        }
+        candidates.replaceAll((key, count) -> count >> 1);
+        candidates.values().removeIf(count -> count == 0);
+        admissionFloor >>= 1;
+    }
+
+    private void offer(K key, long estimate) {
+        if (estimate <= admissionFloor && candidates.size() >= k && !candidates.containsKey(key)) {
+            return;
+        }
+        candidates.put(key, estimate);
+        if (candidates.size() > k * CANDIDATE_FACTOR * 2) {
+            prune();
+        }
+    }
+
+    /**
+     * 후보가 상한의 두 배를 넘으면 추정치가 큰 순으로 상한만큼만 남기고, 상위 K 번째 추정치를 진입 기준으로 삼는다.
+     * 정리 비용은 여러 번의 add 에 나뉜다.
+     */
+    private synchronized void prune() {
+        int limit = k * CANDIDATE_FACTOR;
+        if (candidates.size() <= limit * 2) {
+            return;
+        }
+        List<Map.Entry<K, Long>> sorted = new ArrayList<>(candidates.entrySet());
+        sorted.sort(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()));
+        sorted.subList(limit, sorted.size()).forEach(entry -> candidates.remove(entry.getKey(), entry.getValue()));
+        admissionFloor = sorted.get(Math.min(k, sorted.size()) - 1).getValue();
+    }
+
+    private int bucket(int hash, int row) {
+        long mixed = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        mixed ^= mixed >>> 31;
+        return (int) Math.floorMod(mixed, (long) width);
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 댓글별 좋아요 증감을 LongAdder(내부적으로 스레드별 셀로 분산된 카운터)에 모아 두었다가
+ * 주기적으로, 또는 대기 중인 댓글 수가 batch-size 에 도달하면 $inc bulk write 로 Mongo 에 반영한다.
+ * 조회는 Mongo 에 반영된 값(max-staleness 동안 캐시)과 아직 반영되지 않은 증감분을 합산해 응답한다.
+ * 단건 조회 캐시(CommentDetailCache)는 Mongo 값을 그대로 담으므로, 반영한 댓글을 flush 때 다시 무효화한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "comment.like-counter.write-behind.enabled", havingValue = "true")
+public class BufferedCommentLikeCounter implements CommentLikeCounter {
+
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentDetailCache commentDetailCache;
+    private final int batchSize;
+    private final long maxStalenessMs;
+
+    private final Map<String, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    private final Map<String, PersistedLikeCount> persistedLikeCounts = new ConcurrentHashMap<>();
+    private final Queue<Map.Entry<String, LongAdder>> retiredDeltas = new ConcurrentLinkedQueue<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "comment-like-counter-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BufferedCommentLikeCounter(
+            CommentRepository commentRepository,
+            ApplicationEventPublisher eventPublisher,
+            CommentDetailCache commentDetailCache,
+            @Value("${comment.like-counter.write-behind.batch-size:500}") int batchSize,
+            @Value("${comment.like-counter.write-behind.max-staleness-ms:5000}") long maxStalenessMs
+    ) {
+        this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
+        this.commentDetailCache = commentDetailCache;
+        this.batchSize = batchSize;
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    @Override
+    public boolean increment(String commentUuid, long delta) {
+        if (persistedLikeCount(commentUuid).isEmpty()) {
+            return false;
+        }
+
+        LongAdder adder = pendingDeltas.get(commentUuid);
+        if (adder == null) {
+            adder = pendingDeltas.computeIfAbsent(commentUuid, key -> new LongAdder());
+        }
+        adder.add(delta);
+
+        if (pendingDeltas.size() >= batchSize) {
+            flushExecutor.execute(this::tryFlush);
+        }
+        return true;
+    }
+
+    @Override
+    public long getLikeCount(String commentUuid) {
+        long persisted = persistedLikeCount(commentUuid).orElse(0L);
+        LongAdder pending = pendingDeltas.get(commentUuid);
+        return Math.max(0, persisted + (pending == null ? 0 : pending.sum()));
+    }
+
+    @Override
+    public Map<String, Long> getLikeCounts(Collection<String> commentUuids) {
+        long now = System.currentTimeMillis();
+        Map<String, Long> likeCounts = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+
+        for (String commentUuid : commentUuids) {
+            PersistedLikeCount cached = persistedLikeCounts.get(commentUuid);
+            if (cached != null && now - cached.loadedAt() <= maxStalenessMs) {
+                likeCounts.put(commentUuid, cached.likeCount());
+            } else {
+                misses.add(commentUuid);
+            }
+        }
+        if (!misses.isEmpty()) {
+            likeCounts.putAll(commentRepository.findLikeCountsByCommentUuids(misses));
+        }
+
+        likeCounts.replaceAll((commentUuid, persisted) -> {
+            LongAdder pending = pendingDeltas.get(commentUuid);
+            return Math.max(0, persisted + (pending == null ? 0 : pending.sum()));
+        });
+        return likeCounts;
+    }
+
+    @Scheduled(fixedDelayString = "${comment.like-counter.write-behind.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+        log.info("댓글 좋아요 카운터 종료 flush 완료: remaining={}", pendingDeltas.size());
+    }
+
+    private void tryFlush() {
+        if (flushLock.tryLock()) {
+            try {
+                doFlush();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 정리된(retired) 카운터에 남은 값도 아직 반영되지 않은 증감으로 본다.
+     */
+    @Override
+    public boolean hasPendingDelta(String commentUuid) {
+        LongAdder pending = pendingDeltas.get(commentUuid);
+        if (pending != null && pending.sum() != 0) {
+            return true;
+        }
+        return retiredDeltas.stream()
+                .anyMatch(entry -> entry.getKey().equals(commentUuid) && entry.getValue().sum() != 0);
+    }
+
+    private void doFlush() {
+        long now = System.currentTimeMillis();
+        Map<String, Long> deltas = new HashMap<>();
+
+        // 지난 flush 에서 정리한 카운터에 뒤늦게 더해진 값까지 함께 반영한다.
+        Map.Entry<String, LongAdder> retired;
+        while ((retired = retiredDeltas.poll()) != null) {
+            long delta = retired.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.merge(retired.getKey(), delta, Long::sum);
+            }
+        }
+
+        List<Map.Entry<String, LongAdder>> idle = new ArrayList<>();
+        for (Map.Entry<String, LongAdder> entry : pendingDeltas.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.merge(entry.getKey(), delta, Long::sum);
+            } else {
+                idle.add(entry);
+            }
+        }
+
+        // 증감이 없던 카운터는 제거하되, 제거 직전에 더해진 값이 유실되지 않도록 다음 flush 까지 보관한다.
+        for (Map.Entry<String, LongAdder> entry : idle) {
+            if (pendingDeltas.remove(entry.getKey(), entry.getValue())) {
+                retiredDeltas.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        persistedLikeCounts.entrySet().removeIf(entry ->
+                now - entry.getValue().loadedAt() > maxStalenessMs && !pendingDeltas.containsKey(entry.getKey()));
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Long>> batch = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<Map.Entry<String, Long>> chunk = batch.subList(from, Math.min(from + batchSize, batch.size()));
+            try {
+                commentRepository.incrementLikeCounts(chunk);
+
+                // 반영된 댓글은 다음 조회 때 Mongo 값을 다시 읽도록 캐시를 비우고, 해당 게시글에 변경을 알린다.
+                // 좋아요 요청 시점에 비운 단건 조회 캐시는 flush 전에 예전 값으로 다시 채워졌을 수 있으므로 여기서도 비운다.
+                // 캐시에서 이미 빠진 댓글(retired / 만료)은 게시글 UUID 를 한 번의 조회로 찾는다.
+                Set<String> postUuids = new HashSet<>();
+                List<String> unresolved = new ArrayList<>();
+                chunk.forEach(entry -> {
+                    commentDetailCache.evict(entry.getKey());
+                    PersistedLikeCount persisted = persistedLikeCounts.remove(entry.getKey());
+                    if (persisted != null) {
+                        postUuids.add(persisted.postUuid());
+                    } else {
+                        unresolved.add(entry.getKey());
+                    }
+                });
+                if (!unresolved.isEmpty()) {
+                    postUuids.addAll(commentRepository.findPostUuidsByCommentUuids(unresolved));
+                }
+                postUuids.forEach(postUuid -> eventPublisher.publishEvent(
+                        new CommentChangedEvent(postUuid, null, CommentChangedEvent.Type.LIKE_CHANGED)));
+            } catch (RuntimeException e) {
+                log.error("댓글 좋아요 수 flush 실패, 다음 주기에 재시도: size={}", chunk.size(), e);
+                chunk.forEach(entry ->
+                        pendingDeltas.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(entry.getValue()));
+            }
+        }
+    }
+
+    private Optional<Long> persistedLikeCount(String commentUuid) {
+        PersistedLikeCount cached = persistedLikeCounts.get(commentUuid);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.loadedAt() <= maxStalenessMs) {
+            return Optional.of(cached.likeCount());
+        }
+
+        Optional<Comment> loaded = commentRepository.findLikeCountByCommentUuid(commentUuid);
+        if (loaded.isPresent()) {
+            persistedLikeCounts.put(commentUuid,
+                    new PersistedLikeCount(loaded.get().getLikeCount(), loaded.get().getPostUuid(), now));
+        } else {
+            persistedLikeCounts.remove(commentUuid);
+        }
+        return loaded.map(Comment::getLikeCount);
+    }
+
+    private record PersistedLikeCount(long likeCount, String postUuid, long loadedAt) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.dto.out.CommentBulkCreateResDto;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+
+public interface CommentBulkIngestService {
+
+    CommentBulkCreateResDto ingestNdjson(BufferedReader reader);
+
+    CommentBulkCreateResDto ingestJsonArray(InputStream inputStream);
+}
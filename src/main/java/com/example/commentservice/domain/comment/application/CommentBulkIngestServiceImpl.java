@@ -0,0 +1,277 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.client.post.PostExistenceCache;
+import com.example.commentservice.common.exception.BaseException;
+import com.example.commentservice.common.response.BaseResponseStatus;
+import com.example.commentservice.domain.comment.dto.in.CommentCreateReqDto;
+import com.example.commentservice.domain.comment.dto.out.CommentBulkCreateFailureResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentBulkCreateResDto;
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.CommentOutboxEvent;
+import com.example.commentservice.domain.comment.entity.CommentOutboxEventType;
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
+import com.example.commentservice.domain.comment.vo.in.CommentBulkCreateReqVo;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이관 / 가져오기용 댓글 일괄 등록.
+ * 항목을 chunk-size 단위로 모아 unordered bulk insert 하고, 생성 이벤트는 각 댓글의 outbox 에 함께 기록해
+ * relay 가 배치로 전송한다. 잘못된 항목과 저장에 실패한 항목은 위치(index)와 사유만 기록하고 나머지는 계속 처리한다.
+ * 본문은 항목 단위로 읽으며, max-items 에 도달하면 그 뒤는 읽지 않고 이미 저장한 결과와 함께 truncated 로 응답한다.
+ * 클라이언트는 TOO_MANY_BULK_COMMENTS 실패 항목의 index 부터 다시 보내면 된다.
+ */
+@Slf4j
+@Service
+public class CommentBulkIngestServiceImpl implements CommentBulkIngestService {
+
+    private final CommentRepository commentRepository;
+    private final PostCommentCountRepository postCommentCountRepository;
+    private final PostExistenceCache postExistenceCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader itemReader;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public CommentBulkIngestServiceImpl(
+            CommentRepository commentRepository,
+            PostCommentCountRepository postCommentCountRepository,
+            PostExistenceCache postExistenceCache,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${comment.bulk-ingest.chunk-size:1000}") int chunkSize,
+            @Value("${comment.bulk-ingest.max-items:100000}") int maxItems
+    ) {
+        this.commentRepository = commentRepository;
+        this.postCommentCountRepository = postCommentCountRepository;
+        this.postExistenceCache = postExistenceCache;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.itemReader = objectMapper.readerFor(CommentBulkCreateReqVo.class);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 한 줄에 댓글 하나씩 읽어 처리한다. 형식이 잘못된 줄은 해당 줄만 실패로 기록한다.
+     */
+    @Override
+    public CommentBulkCreateResDto ingestNdjson(BufferedReader reader) {
+        Ingestion ingestion = new Ingestion();
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (ingestion.isFull()) {
+                    ingestion.truncate();
+                    break;
+                }
+                try {
+                    CommentBulkCreateReqVo item = itemReader.readValue(line);
+                    ingestion.add(CommentCreateReqDto.from(item));
+                } catch (JsonProcessingException e) {
+                    ingestion.reject(BaseResponseStatus.INVALID_BULK_COMMENT_ITEM);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ingestion.finish();
+    }
+
+    /**
+     * JSON 배열을 전체 역직렬화하지 않고 원소 하나씩 읽어 처리한다.
+     * 원소의 필드 형식이 잘못되면 해당 원소만 실패로 기록하고, 문법 오류가 나면 그 위치에서 읽기를 멈춘다.
+     */
+    @Override
+    public CommentBulkCreateResDto ingestJsonArray(InputStream inputStream) {
+        Ingestion ingestion = new Ingestion();
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BaseException(BaseResponseStatus.INVALID_BULK_COMMENT_ITEM);
+            }
+            while (true) {
+                JsonNode node;
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY) {
+                        break;
+                    }
+                    if (token == null) {
+                        // 배열이 닫히기 전에 본문이 끝났다.
+                        ingestion.reject(BaseResponseStatus.INVALID_BULK_COMMENT_ITEM);
+                        break;
+                    }
+                    if (ingestion.isFull()) {
+                        ingestion.truncate();
+                        break;
+                    }
+                    node = parser.readValueAsTree();
+                } catch (JsonParseException e) {
+                    ingestion.reject(BaseResponseStatus.INVALID_BULK_COMMENT_ITEM);
+                    break;
+                }
+                try {
+                    ingestion.add(CommentCreateReqDto.from(itemReader.readValue(node)));
+                } catch (JsonProcessingException e) {
+                    ingestion.reject(BaseResponseStatus.INVALID_BULK_COMMENT_ITEM);
+                }
+            }
+        } catch (JsonParseException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_BULK_COMMENT_ITEM);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ingestion.finish();
+    }
+
+    private class Ingestion {
+
+        private final List<Integer> chunkIndexes = new ArrayList<>();
+        private final List<Comment> chunk = new ArrayList<>();
+        private final List<CommentBulkCreateFailureResDto> failures = new ArrayList<>();
+        private final Map<String, Boolean> postExists = new HashMap<>();
+        private int total;
+        private long succeeded;
+        private boolean truncated;
+
+        void add(CommentCreateReqDto comment) {
+            int index = next();
+            if (isBlank(comment.getPostUuid()) || isBlank(comment.getMemberUuid()) || isBlank(comment.getContent())) {
+                failures.add(CommentBulkCreateFailureResDto.of(index, BaseResponseStatus.INVALID_BULK_COMMENT_ITEM));
+                return;
+            }
+            if (!postExists.computeIfAbsent(comment.getPostUuid(), postExistenceCache::exists)) {
+                failures.add(CommentBulkCreateFailureResDto.of(index, BaseResponseStatus.POST_NOT_FOUND));
+                return;
+            }
+
+            Comment entity = comment.toEntity();
+            entity.addOutboxEvent(CommentOutboxEvent.of(CommentOutboxEventType.CREATED));
+            chunkIndexes.add(index);
+            chunk.add(entity);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(BaseResponseStatus status) {
+            failures.add(CommentBulkCreateFailureResDto.of(next(), status));
+        }
+
+        boolean isFull() {
+            return total >= maxItems;
+        }
+
+        // 읽지 않은 나머지 항목을 시작 index 하나로 실패 처리한다.
+        void truncate() {
+            truncated = true;
+            failures.add(CommentBulkCreateFailureResDto.of(total, BaseResponseStatus.TOO_MANY_BULK_COMMENTS,
+                    "index " + total + " 부터의 항목은 등록하지 않았습니다. (최대 " + maxItems + "개)"));
+        }
+
+        CommentBulkCreateResDto finish() {
+            flush();
+            return CommentBulkCreateResDto.builder()
+                    .total(total)
+                    .succeeded(succeeded)
+                    .failed(failures.size())
+                    .truncated(truncated)
+                    .failures(failures)
+                    .build();
+        }
+
+        private int next() {
+            return total++;
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            // 카운터 집계가 저장된 댓글을 포함한 채 덮어쓰고 $inc 가 한 번 더 더해지지 않도록 쓰기 시작을 먼저 기록한다.
+            Map<String, Long> insertedPerPost = new HashMap<>();
+            chunk.forEach(comment -> insertedPerPost.put(comment.getPostUuid(), 0L));
+            postCommentCountRepository.beginCountChanges(insertedPerPost.keySet());
+            Map<Integer, String> insertFailures;
+            try {
+                insertFailures = commentRepository.insertAllUnordered(chunk);
+            } catch (DataAccessException | BaseException e) {
+                failChunk(insertedPerPost.keySet(), e);
+                return;
+            } catch (RuntimeException e) {
+                postCommentCountRepository.abortCountChanges(insertedPerPost.keySet());
+                throw e;
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                String message = insertFailures.get(i);
+                if (message == null) {
+                    succeeded++;
+                    insertedPerPost.merge(chunk.get(i).getPostUuid(), 1L, Long::sum);
+                } else {
+                    failures.add(CommentBulkCreateFailureResDto.of(
+                            chunkIndexes.get(i), BaseResponseStatus.FAILED_TO_INSERT_COMMENT, message));
+                }
+            }
+            postCommentCountRepository.completeRootCommentChanges(insertedPerPost);
+            insertedPerPost.forEach((postUuid, inserted) -> {
+                if (inserted > 0) {
+                    eventPublisher.publishEvent(new CommentChangedEvent(postUuid, null, CommentChangedEvent.Type.CREATED));
+                }
+            });
+
+            if (!insertFailures.isEmpty()) {
+                log.warn("댓글 일괄 등록 중 일부 저장 실패: chunk={}, failed={}", chunk.size(), insertFailures.size());
+            }
+            chunk.clear();
+            chunkIndexes.clear();
+        }
+
+        /**
+         * 타임아웃 / 연결 오류처럼 chunk 전체가 실패하면 어느 문서가 저장됐는지 알 수 없으므로 chunk 의 모든 항목을 실패로 기록한다.
+         * 앞 chunk 의 결과는 그대로 두고 다음 항목을 계속 읽는다. 카운터는 다음 조회에서 다시 집계하도록 한다.
+         */
+        private void failChunk(Set<String> postUuids, RuntimeException e) {
+            log.warn("댓글 일괄 등록 chunk 저장 실패: chunk={}", chunk.size(), e);
+            postCommentCountRepository.abortCountChanges(postUuids);
+            String message = BaseResponseStatus.FAILED_TO_INSERT_COMMENT.getMessage() + " (" + e.getMessage() + ")";
+            chunkIndexes.forEach(index -> failures.add(CommentBulkCreateFailureResDto.of(
+                    index, BaseResponseStatus.FAILED_TO_INSERT_COMMENT, message)));
+            // 일부 문서는 저장되었을 수 있으므로 목록 캐시는 무효화한다.
+            postUuids.forEach(postUuid -> eventPublisher.publishEvent(
+                    new CommentChangedEvent(postUuid, null, CommentChangedEvent.Type.CREATED)));
+            chunk.clear();
+            chunkIndexes.clear();
+        }
+
+        private boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+    }
+}
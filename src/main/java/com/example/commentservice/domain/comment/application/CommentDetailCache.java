@@ -0,0 +1,51 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * commentUuid 기준 단건 조회 결과(CommentResDto) 캐시.
+ * 크기와 TTL 로 제한되며, 수정 시 갱신 / 삭제와 좋아요 변경 시 무효화된다.
+ * 적중 / 미적중 / 제거 지표는 cache.* 메트릭(cache=commentDetail)으로 노출된다.
+ */
+@Component
+public class CommentDetailCache {
+
+    private final Cache<String, CommentResDto> cache;
+
+    public CommentDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${comment.cache.detail.maximum-size:10000}") long maximumSize,
+            @Value("${comment.cache.detail.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "commentDetail");
+    }
+
+    /**
+     * loader 가 null 을 반환하면(댓글 없음) 캐시하지 않고 null 을 반환한다.
+     */
+    public CommentResDto get(String commentUuid, Function<String, CommentResDto> loader) {
+        return cache.get(commentUuid, loader);
+    }
+
+    public void put(CommentResDto commentResDto) {
+        cache.put(commentResDto.getCommentUuid(), commentResDto);
+    }
+
+    public void evict(String commentUuid) {
+        cache.invalidate(commentUuid);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * comment.likeCount 를 comment_like 집계 결과로 주기적으로 보정한다.
+ * write-behind 카운터를 쓰는 경우 모인 증감을 먼저 반영하고, 보정 중에 새로 쌓인 증감이 있는 댓글은 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "comment.like-count.reconcile.enabled", havingValue = "true")
+public class CommentLikeCountReconcileScheduler {
+
+    private final CommentRepository commentRepository;
+    private final CommentLikeCounter commentLikeCounter;
+
+    @Value("${comment.like-count.reconcile.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${comment.like-count.reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+        commentLikeCounter.flush();
+        long reconciled = commentRepository.reconcileLikeCounts(chunkSize, commentLikeCounter::hasPendingDelta);
+        log.info("댓글 좋아요 수 보정 완료: reconciled={}, elapsedMs={}", reconciled, System.currentTimeMillis() - startedAt);
+    }
+}
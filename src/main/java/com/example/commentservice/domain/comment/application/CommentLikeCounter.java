@@ -0,0 +1,33 @@
+package com.example.commentservice.domain.comment.application;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 댓글 좋아요 수(comment.likeCount)의 증감과 조회를 담당한다.
+ * 기본 구현은 Mongo 에 바로 $inc 하고, write-behind 설정 시 메모리에 모았다가 일괄 반영한다.
+ */
+public interface CommentLikeCounter {
+
+    /**
+     * @return 반영 대상 댓글이 존재하지 않거나 삭제된 경우 false
+     */
+    boolean increment(String commentUuid, long delta);
+
+    long getLikeCount(String commentUuid);
+
+    /**
+     * @return commentUuid 별 좋아요 수. 존재하지 않는 댓글은 결과에 포함되지 않는다.
+     */
+    Map<String, Long> getLikeCounts(Collection<String> commentUuids);
+
+    /**
+     * 아직 Mongo 에 반영되지 않은 증감을 반영한다.
+     */
+    void flush();
+
+    /**
+     * @return 아직 Mongo 에 반영되지 않은 증감이 남아 있으면 true
+     */
+    boolean hasPendingDelta(String commentUuid);
+}
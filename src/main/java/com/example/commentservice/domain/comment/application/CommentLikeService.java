@@ -1,10 +1,14 @@
 package com.example.commentservice.domain.comment.application;
 
+import com.example.commentservice.domain.comment.dto.in.CommentLikeCheckBatchReqDto;
+import com.example.commentservice.domain.comment.dto.in.CommentLikeCountBatchReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentLikeCountReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentLikeReqDto;
 import com.example.commentservice.domain.comment.dto.out.CommentLikeCheckResDto;
 import com.example.commentservice.domain.comment.dto.out.CommentLikeCountResDto;
 
+import java.util.List;
+
 public interface CommentLikeService {
     void likeComment(CommentLikeReqDto commentLikeReqDto);
 
@@ -12,5 +16,9 @@ public interface CommentLikeService {
 
     CommentLikeCountResDto getCommentLikeCount(CommentLikeCountReqDto commentLikeCountReqDto);
 
+    List<CommentLikeCountResDto> getCommentLikeCounts(CommentLikeCountBatchReqDto commentLikeCountBatchReqDto);
+
     CommentLikeCheckResDto hasLikedComment(String commentUuid, String memberUuid);
+
+    List<CommentLikeCheckResDto> hasLikedComments(CommentLikeCheckBatchReqDto commentLikeCheckBatchReqDto);
 }
@@ -2,17 +2,23 @@ package com.example.commentservice.domain.comment.application;
 
 import com.example.commentservice.common.exception.BaseException;
 import com.example.commentservice.common.response.BaseResponseStatus;
+import com.example.commentservice.domain.comment.dto.in.CommentLikeCheckBatchReqDto;
+import com.example.commentservice.domain.comment.dto.in.CommentLikeCountBatchReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentLikeCountReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentLikeReqDto;
 import com.example.commentservice.domain.comment.dto.out.CommentLikeCheckResDto;
 import com.example.commentservice.domain.comment.dto.out.CommentLikeCountResDto;
-import com.example.commentservice.domain.comment.entity.CommentLike;
 import com.example.commentservice.domain.comment.infrastructure.CommentLikeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -20,12 +26,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentLikeServiceImpl implements CommentLikeService {
 
     private final CommentLikeRepository commentLikeRepository;
+    private final CommentLikeCounter commentLikeCounter;
+    private final CommentDetailCache commentDetailCache;
 
+    private static final int MAX_BATCH_SIZE = 100;
 
     @Transactional
     @Override
     public void likeComment(CommentLikeReqDto commentLikeReqDto) {
-        if (commentLikeRepository.existsByCommentUuidAndMemberUuid(
+        if (!commentLikeRepository.insertIfAbsent(
                 commentLikeReqDto.getCommentUuid(), commentLikeReqDto.getMemberUuid())) {
             log.warn(
                     "이미 댓글에 좋아요를 하셨습니다 : commentUuid={}, memberUuid={} ",
@@ -33,28 +42,53 @@ public class CommentLikeServiceImpl implements CommentLikeService {
             );
             throw new BaseException(BaseResponseStatus.ALREADY_EXISTS_COMMENT_LIKE);
         }
-        commentLikeRepository.save(commentLikeReqDto.toEntity());
+
+        if (!commentLikeCounter.increment(commentLikeReqDto.getCommentUuid(), 1)) {
+            // 삭제되었거나 존재하지 않는 댓글이면 등록한 좋아요를 되돌린다.
+            commentLikeRepository.deleteByCommentUuidAndMemberUuid(
+                    commentLikeReqDto.getCommentUuid(), commentLikeReqDto.getMemberUuid());
+            throw new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT);
+        }
+        // write-behind 카운터는 flush 로 Mongo 에 반영한 뒤 한 번 더 무효화한다.
+        commentDetailCache.evict(commentLikeReqDto.getCommentUuid());
     }
 
     @Transactional
     @Override
     public void unlikeComment(CommentLikeReqDto commentLikeReqDto) {
-        CommentLike commentLike = commentLikeRepository
-                .findByCommentUuidAndMemberUuid(commentLikeReqDto.getCommentUuid(), commentLikeReqDto.getMemberUuid())
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.INVALID_USER_ROLE));
-
-        commentLikeRepository.delete(commentLike);
+        if (!commentLikeRepository.deleteByCommentUuidAndMemberUuid(
+                commentLikeReqDto.getCommentUuid(), commentLikeReqDto.getMemberUuid())) {
+            throw new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT_LIKE);
+        }
+        commentLikeCounter.increment(commentLikeReqDto.getCommentUuid(), -1);
+        commentDetailCache.evict(commentLikeReqDto.getCommentUuid());
     }
 
     @Override
     public CommentLikeCountResDto getCommentLikeCount(CommentLikeCountReqDto commentLikeCountReqDto) {
-        long count = commentLikeRepository.countByCommentUuid(commentLikeCountReqDto.getCommentUuid());
+        long count = commentLikeCounter.getLikeCount(commentLikeCountReqDto.getCommentUuid());
         return CommentLikeCountResDto.builder()
                 .commentUuid(commentLikeCountReqDto.getCommentUuid())
                 .likeCount(count)
                 .build();
     }
 
+    @Override
+    public List<CommentLikeCountResDto> getCommentLikeCounts(CommentLikeCountBatchReqDto commentLikeCountBatchReqDto) {
+        Set<String> commentUuids = distinctCommentUuids(commentLikeCountBatchReqDto.getCommentUuids());
+        if (commentUuids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> likeCounts = commentLikeCounter.getLikeCounts(commentUuids);
+        return commentUuids.stream()
+                .map(commentUuid -> CommentLikeCountResDto.builder()
+                        .commentUuid(commentUuid)
+                        .likeCount(likeCounts.getOrDefault(commentUuid, 0L))
+                        .build())
+                .toList();
+    }
+
     @Override
     public CommentLikeCheckResDto hasLikedComment(String commentUuid, String memberUuid) {
         boolean result = commentLikeRepository.existsByCommentUuidAndMemberUuid(commentUuid, memberUuid);
@@ -64,4 +98,32 @@ public class CommentLikeServiceImpl implements CommentLikeService {
                 .build();
     }
 
+    @Override
+    public List<CommentLikeCheckResDto> hasLikedComments(CommentLikeCheckBatchReqDto commentLikeCheckBatchReqDto) {
+        Set<String> commentUuids = distinctCommentUuids(commentLikeCheckBatchReqDto.getCommentUuids());
+        String memberUuid = commentLikeCheckBatchReqDto.getMemberUuid();
+
+        Set<String> liked = commentUuids.isEmpty() || memberUuid == null || memberUuid.isBlank()
+                ? Set.of()
+                : commentLikeRepository.findLikedCommentUuids(memberUuid, commentUuids);
+
+        return commentUuids.stream()
+                .map(commentUuid -> CommentLikeCheckResDto.builder()
+                        .commentUuid(commentUuid)
+                        .liked(liked.contains(commentUuid))
+                        .build())
+                .toList();
+    }
+
+    private static Set<String> distinctCommentUuids(List<String> commentUuids) {
+        if (commentUuids == null) {
+            return Set.of();
+        }
+        Set<String> distinct = new LinkedHashSet<>(commentUuids);
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            throw new BaseException(BaseResponseStatus.TOO_MANY_COMMENT_UUIDS);
+        }
+        return distinct;
+    }
+
 }
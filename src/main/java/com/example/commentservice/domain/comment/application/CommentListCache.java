@@ -0,0 +1,214 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.dto.out.HotPostResDto;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * (postUuid, 정렬 기준) 별 앞쪽 페이지 캐시.
+ * HotPostTracker 가 고른 hot post 의 페이지는 고정(pin)해 두고 refresh 주기마다 미리 다시 읽어, 만료로 인한
+ * 조회 몰림 없이 항상 캐시에서 응답한다. 나머지 게시글은 cache-cold-posts 가 켜진 경우에만 Caffeine 캐시를 쓰며,
+ * 크기는 페이지의 대략적인 메모리 사용량(byte) 합으로 제한된다.
+ * 캐시 값은 회원과 무관한 페이지이며, likedByMe 는 조회 시점에 덧붙인다.
+ * 페이지마다 읽기 전에 확인한 게시글 목록 version(post_comment_count.version)을 함께 두고, 요청의 version 보다
+ * 오래된 페이지는 쓰지 않는다. 다른 인스턴스에서 바뀐 게시글도 version 으로 걸러지므로 시계 차이와 무관하다.
+ * hot post 조회 기록은 목록 요청마다 한 번 호출되는 CommentService.getCommentListVersion 에서 한다.
+ */
+@Slf4j
+@Component
+public class CommentListCache {
+
+    private static final int PAGE_BASE_WEIGHT = 256;
+    private static final int COMMENT_BASE_WEIGHT = 320;
+
+    private final HotPostTracker hotPostTracker;
+    private final PostCommentCountRepository postCommentCountRepository;
+    private final Cache<PageKey, VersionedPage> cache;
+    private final int cachedPages;
+    private final boolean cacheColdPosts;
+
+    // hot post 페이지와 그 페이지를 다시 읽는 loader.
+    private final Map<PageKey, PinnedPage> pinnedPages = new ConcurrentHashMap<>();
+    private final Counter pinnedHitCounter;
+    private final Counter pinnedMissCounter;
+
+    public CommentListCache(
+            MeterRegistry meterRegistry,
+            HotPostTracker hotPostTracker,
+            PostCommentCountRepository postCommentCountRepository,
+            @Value("${comment.cache.list.max-weight-bytes:67108864}") long maxWeightBytes,
+            @Value("${comment.cache.list.ttl-seconds:30}") long ttlSeconds,
+            @Value("${comment.cache.list.cached-pages:1}") int cachedPages,
+            @Value("${comment.cache.list.cache-cold-posts:false}") boolean cacheColdPosts
+    ) {
+        this.hotPostTracker = hotPostTracker;
+        this.postCommentCountRepository = postCommentCountRepository;
+        this.cachedPages = cachedPages;
+        this.cacheColdPosts = cacheColdPosts;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher(CommentListCache::weigh)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "commentList");
+
+        Gauge.builder("comment.hot-post.pinned-pages", pinnedPages, Map::size)
+                .description("hot post 로 고정되어 주기적으로 갱신되는 목록 페이지 수")
+                .register(meterRegistry);
+        this.pinnedHitCounter = Counter.builder("comment.hot-post.pinned.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.pinnedMissCounter = Counter.builder("comment.hot-post.pinned.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        hotPostTracker.addRefreshListener(this::refreshPinnedPages);
+    }
+
+    /**
+     * cached-pages 보다 앞쪽 페이지만 캐시하고, 그 이후 페이지는 loader 를 그대로 호출한다.
+     * version 은 loader 가 읽기 전에 확인한 게시글 목록 version 이어야 하며, 이보다 오래된 캐시 값은 쓰지 않는다.
+     */
+    public CommentListPageResDto get(
+            String postUuid, CommentSortType commentSortType, int page, long version,
+            Supplier<CommentListPageResDto> loader) {
+        if (page >= cachedPages) {
+            return loader.get();
+        }
+
+        PageKey key = new PageKey(postUuid, commentSortType, page);
+        if (hotPostTracker.isHot(postUuid)) {
+            PinnedPage pinned = pinnedPages.get(key);
+            if (pinned != null && pinned.version() >= version) {
+                pinnedHitCounter.increment();
+                return pinned.page();
+            }
+            pinnedMissCounter.increment();
+            CommentListPageResDto loaded = loader.get();
+            pinnedPages.merge(key, new PinnedPage(loaded, loader, version), CommentListCache::newer);
+            return loaded;
+        }
+        if (!cacheColdPosts) {
+            return loader.get();
+        }
+
+        VersionedPage cached = cache.getIfPresent(key);
+        if (cached != null && cached.version() >= version) {
+            return cached.page();
+        }
+        CommentListPageResDto loaded = loader.get();
+        cache.asMap().merge(key, new VersionedPage(loaded, version), CommentListCache::newer);
+        return loaded;
+    }
+
+    public void invalidatePost(String postUuid) {
+        for (CommentSortType commentSortType : CommentSortType.values()) {
+            for (int page = 0; page < cachedPages; page++) {
+                PageKey key = new PageKey(postUuid, commentSortType, page);
+                cache.invalidate(key);
+                pinnedPages.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 식어버린 게시글의 고정 페이지는 풀고, 남은 hot post 페이지는 저장된 loader 로 미리 다시 읽는다.
+     * 게시글 version 은 다시 읽기 전에 한 번의 조회로 확인한다. HotPostTracker 가 hot set 을 교체한 직후 그 스레드에서 호출한다.
+     */
+    public void refreshPinnedPages() {
+        Set<String> hot = hotPostTracker.hotPostUuids();
+        pinnedPages.keySet().removeIf(key -> !hot.contains(key.postUuid()));
+        if (pinnedPages.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> versions = new HashMap<>();
+        postCommentCountRepository.findAllById(hot)
+                .forEach(count -> versions.put(count.getPostUuid(), count.getVersion()));
+
+        pinnedPages.forEach((key, pinned) -> {
+            long version = versions.getOrDefault(key.postUuid(), 0L);
+            try {
+                CommentListPageResDto refreshed = pinned.loader().get();
+                pinnedPages.computeIfPresent(key, (ignored, current) ->
+                        newer(current, new PinnedPage(refreshed, pinned.loader(), version)));
+            } catch (RuntimeException e) {
+                log.warn("hot post 목록 페이지 갱신 실패, 다음 주기에 재시도: postUuid={}", key.postUuid(), e);
+            }
+        });
+    }
+
+    /**
+     * 현재 hot set 과 게시글별 고정 페이지 수. (관리용 조회)
+     */
+    public List<HotPostResDto> describeHotPosts() {
+        Map<String, Integer> pinnedCounts = new HashMap<>();
+        pinnedPages.keySet().forEach(key -> pinnedCounts.merge(key.postUuid(), 1, Integer::sum));
+        return hotPostTracker.hotPosts().entrySet().stream()
+                .map(entry -> HotPostResDto.builder()
+                        .postUuid(entry.getKey())
+                        .estimatedHits(entry.getValue())
+                        .pinnedPages(pinnedCounts.getOrDefault(entry.getKey(), 0))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * version 으로 걸러지지 않는 경우(카운터가 없는 게시글, version 갱신 실패)를 위해 같은 인스턴스의 변경은 바로 비운다.
+     */
+    @EventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.postUuid() != null) {
+            invalidatePost(event.postUuid());
+        }
+    }
+
+    // 동시에 읽은 두 값 중 더 최근 version 으로 읽은 값을 남긴다.
+    private static <T extends Versioned> T newer(T current, T candidate) {
+        return candidate.version() >= current.version() ? candidate : current;
+    }
+
+    private static int weigh(PageKey key, VersionedPage cached) {
+        int weight = PAGE_BASE_WEIGHT;
+        for (CommentResDto comment : cached.page().getComments()) {
+            weight += COMMENT_BASE_WEIGHT + (comment.getContent() == null ? 0 : comment.getContent().length() * 2);
+        }
+        return weight;
+    }
+
+    private interface Versioned {
+        long version();
+    }
+
+    private record PageKey(String postUuid, CommentSortType commentSortType, int page) {
+    }
+
+    private record VersionedPage(CommentListPageResDto page, long version) implements Versioned {
+    }
+
+    private record PinnedPage(CommentListPageResDto page, Supplier<CommentListPageResDto> loader, long version)
+            implements Versioned {
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.common.kafka.event.CommentCreatedEvent;
+import com.example.commentservice.common.kafka.event.CommentDeletedEvent;
+import com.example.commentservice.common.kafka.util.KafkaProducer;
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.CommentOutboxEvent;
+import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 댓글 문서의 outbox 에 쌓인 이벤트를 주기적으로 선점해 Kafka 로 일괄 전송하고, 전송된 이벤트를 outbox 에서 제거한다.
+ * 전송은 at-least-once 이며, 한 댓글의 이벤트는 발생 순서대로 앞선 이벤트가 전송된 경우에만 다음 이벤트를 완료 처리한다.
+ * relay 는 전용 스레드에서 실행해 Kafka 장애로 전송이 느려져도 다른 @Scheduled 작업을 막지 않는다.
+ * 한 batch 는 batch-timeout-ms 안에서만 전송을 기다리고, 실패한 이벤트는 그 자리에서 재시도하지 않고 lease 만료 후
+ * 다음 relay 에서 다시 전송한다. lease 는 batch 하나의 최대 처리 시간보다 길어야 다른 인스턴스가 중복 선점하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "comment.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class CommentOutboxRelay {
+
+    private final CommentRepository commentRepository;
+    private final KafkaProducer kafkaProducer;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final long batchTimeoutMs;
+    private final long pollIntervalMs;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong pendingComments = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    private final ScheduledExecutorService relayExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "comment-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CommentOutboxRelay(
+            CommentRepository commentRepository,
+            KafkaProducer kafkaProducer,
+            MeterRegistry meterRegistry,
+            @Value("${comment.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${comment.outbox.relay.lease-seconds:30}") long leaseSeconds,
+            @Value("${comment.outbox.relay.batch-timeout-ms:10000}") long batchTimeoutMs,
+            @Value("${comment.outbox.relay.poll-interval-ms:500}") long pollIntervalMs
+    ) {
+        // 전송 대기(batch-timeout) 뒤 선점 / 완료 처리까지 끝나기 전에 lease 가 풀리지 않도록 2배 이상을 요구한다.
+        if (TimeUnit.SECONDS.toMillis(leaseSeconds) < batchTimeoutMs * 2) {
+            throw new IllegalStateException("comment.outbox.relay.lease-seconds 는 batch-timeout-ms 의 2배 이상이어야 합니다.");
+        }
+        this.commentRepository = commentRepository;
+        this.kafkaProducer = kafkaProducer;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.batchTimeoutMs = batchTimeoutMs;
+        this.pollIntervalMs = pollIntervalMs;
+
+        this.publishedCounter = Counter.builder("comment.outbox.published")
+                .description("Kafka 로 전송 완료된 outbox 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("comment.outbox.publish.failed")
+                .description("전송에 실패해 lease 만료 후 다음 relay 로 넘어간 outbox 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("comment.outbox.pending", pendingComments, AtomicLong::get)
+                .description("전송 대기 중인 이벤트가 있는 댓글 수")
+                .register(meterRegistry);
+        Gauge.builder("comment.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 전송 대기 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        relayExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                relay();
+            } catch (RuntimeException e) {
+                log.error("outbox relay 실패, 다음 주기에 재시도", e);
+            }
+        }, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayExecutor.shutdownNow();
+    }
+
+    public void relay() {
+        String claimToken = UUID.randomUUID().toString();
+        List<Comment> claimed = commentRepository.claimPendingOutbox(
+                claimToken, LocalDateTime.now().plusSeconds(leaseSeconds), batchSize);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<String>> sentEventIds = new HashMap<>();
+        List<OutboxSend> batch = new ArrayList<>();
+        for (Comment comment : claimed) {
+            if (comment.getOutbox() == null) {
+                continue;
+            }
+            comment.getOutbox().stream()
+                    .sorted(Comparator.comparing(CommentOutboxEvent::getOccurredAt))
+                    .forEach(event -> batch.add(new OutboxSend(comment, event)));
+        }
+
+        List<OutboxSend> failed = publish(batch, sentEventIds, System.currentTimeMillis() + batchTimeoutMs);
+
+        // 전송된 이벤트만 제거하고, 실패한 이벤트는 lease 만료 후 다음 relay 에서 다시 전송한다.
+        commentRepository.completeOutbox(claimToken, sentEventIds);
+        publishedCounter.increment(sentEventIds.values().stream().mapToInt(List::size).sum());
+        if (!failed.isEmpty()) {
+            failedCounter.increment(failed.size());
+            log.warn("outbox 이벤트 전송 실패, lease 만료 후 재시도: failed={}, leaseSeconds={}", failed.size(), leaseSeconds);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${comment.outbox.relay.lag-refresh-interval-ms:10000}")
+    public void refreshLag() {
+        pendingComments.set(commentRepository.countPendingOutbox());
+        lagSeconds.set(commentRepository.findOldestPendingOutboxAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+
+    /**
+     * 배치 전체를 먼저 비동기로 전송한 뒤, deadline 까지 한 번만 기다려 결과를 모은다.
+     * deadline 이 지나면 남은 이벤트는 보내지 않고, 그때까지 끝나지 않은 전송은 실패로 본다.
+     * 같은 댓글에서 앞선 이벤트가 실패하면 뒤 이벤트는 전송 결과와 무관하게 실패로 남겨 재시도 시 순서가 뒤바뀌지 않도록 한다.
+     */
+    private List<OutboxSend> publish(List<OutboxSend> batch, Map<String, List<String>> sentEventIds, long deadline) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+        for (OutboxSend outboxSend : batch) {
+            futures.add(System.currentTimeMillis() < deadline
+                    ? send(outboxSend)
+                    : CompletableFuture.failedFuture(new TimeoutException("outbox batch deadline exceeded")));
+        }
+        awaitAll(futures, deadline);
+
+        List<OutboxSend> failed = new ArrayList<>();
+        Set<String> blockedComments = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxSend outboxSend = batch.get(i);
+            String commentId = outboxSend.comment().getId();
+            if (isSent(futures.get(i), outboxSend) && !blockedComments.contains(commentId)) {
+                sentEventIds.computeIfAbsent(commentId, key -> new ArrayList<>()).add(outboxSend.event().getEventId());
+            } else {
+                blockedComments.add(commentId);
+                failed.add(outboxSend);
+            }
+        }
+        return failed;
+    }
+
+    private CompletableFuture<?> send(OutboxSend outboxSend) {
+        Comment comment = outboxSend.comment();
+        try {
+            return switch (outboxSend.event().getType()) {
+                case CREATED -> kafkaProducer.sendCommentCreatedEvent(CommentCreatedEvent.builder()
+                        .postUuid(comment.getPostUuid())
+                        .memberUuid(comment.getMemberUuid())
+                        .commentUuid(comment.getCommentUuid())
+                        .deleted(false)
+                        .createdAt(comment.getCreatedAt())
+                        .updatedAt(comment.getCreatedAt())
+                        .build());
+                case DELETED -> kafkaProducer.sendCommentDeletedEvent(CommentDeletedEvent.builder()
+                        .postUuid(comment.getPostUuid())
+                        .memberUuid(comment.getMemberUuid())
+                        .commentUuid(comment.getCommentUuid())
+                        .deleted(true)
+                        .build());
+            };
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> futures, long deadline) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // 개별 결과는 isSent 에서 확인한다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isSent(CompletableFuture<?> future, OutboxSend outboxSend) {
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            return true;
+        }
+        if (future.isDone()) {
+            log.debug("outbox 이벤트 전송 실패: eventId={}", outboxSend.event().getEventId(),
+                    future.exceptionNow());
+        } else {
+            log.debug("outbox 이벤트 전송 시간 초과: eventId={}", outboxSend.event().getEventId());
+        }
+        return false;
+    }
+
+    private record OutboxSend(Comment comment, CommentOutboxEvent event) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.dto.out.CommentCursorPageResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentLikeCountResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface CommentReactiveService {
+
+    Mono<CommentListPageResDto> getCommentsByPostUuid(
+            String postUuid, int page, CommentSortType commentSortType, String memberUuid);
+
+    Mono<CommentCursorPageResDto> getCommentsByPostUuidWithCursor(
+            String postUuid, String cursor, CommentSortType commentSortType, String memberUuid);
+
+    Flux<CommentResDto> streamCommentsByPostUuid(String postUuid, String cursor, CommentSortType commentSortType);
+
+    Mono<CommentResDto> getCommentByCommentUuid(String commentUuid);
+
+    Mono<CommentLikeCountResDto> getCommentLikeCount(String commentUuid);
+}
@@ -0,0 +1,126 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.common.exception.BaseException;
+import com.example.commentservice.common.response.BaseResponseStatus;
+import com.example.commentservice.domain.comment.dto.out.CommentCursorPageResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentLikeCountResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.CommentCursor;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import com.example.commentservice.domain.comment.infrastructure.CommentReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 목록 / 상세 / 좋아요 수 조회를 blocking 경로와 별도로 ReactiveMongoTemplate 로 처리한다.
+ * 캐시와 write-behind 좋아요 카운터를 거치지 않고 Mongo 에 저장된 값을 그대로 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentReactiveServiceImpl implements CommentReactiveService {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final CommentReactiveRepository commentReactiveRepository;
+
+    @Value("${comment.reactive.stream.max-size:1000}")
+    private int maxStreamSize;
+
+    /**
+     * count 와 페이지 조회를 동시에 구독해 두 쿼리의 지연 시간이 더해지지 않도록 한다.
+     */
+    @Override
+    public Mono<CommentListPageResDto> getCommentsByPostUuid(
+            String postUuid, int page, CommentSortType commentSortType, String memberUuid) {
+        Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE, commentSortType.getSort());
+
+        Mono<List<CommentResDto>> comments = commentReactiveRepository.findByPostUuid(postUuid, pageable)
+                .map(CommentResDto::from)
+                .collectList()
+                .flatMap(list -> applyLikedByMe(list, memberUuid));
+
+        return Mono.zip(commentReactiveRepository.countByPostUuid(postUuid), comments)
+                .map(tuple -> {
+                    long total = tuple.getT1();
+                    long totalPages = (total + DEFAULT_PAGE_SIZE - 1) / DEFAULT_PAGE_SIZE;
+                    return new CommentListPageResDto(
+                            tuple.getT2(), page, DEFAULT_PAGE_SIZE, page + 1L < totalPages, totalPages, total);
+                });
+    }
+
+    @Override
+    public Mono<CommentCursorPageResDto> getCommentsByPostUuidWithCursor(
+            String postUuid, String cursor, CommentSortType commentSortType, String memberUuid) {
+        CommentCursor commentCursor = CommentCursor.decode(cursor, commentSortType);
+
+        // 한 건을 더 조회해 count 쿼리 없이 다음 페이지 존재 여부를 판단한다.
+        return commentReactiveRepository
+                .findByPostUuidAfter(postUuid, commentCursor, commentSortType, DEFAULT_PAGE_SIZE + 1)
+                .collectList()
+                .flatMap(fetched -> {
+                    boolean hasNext = fetched.size() > DEFAULT_PAGE_SIZE;
+                    List<Comment> content = hasNext ? fetched.subList(0, DEFAULT_PAGE_SIZE) : fetched;
+                    String nextCursor = hasNext
+                            ? CommentCursor.of(commentSortType, content.get(content.size() - 1)).encode()
+                            : null;
+
+                    return applyLikedByMe(content.stream().map(CommentResDto::from).toList(), memberUuid)
+                            .map(comments -> CommentCursorPageResDto.builder()
+                                    .comments(comments)
+                                    .nextCursor(nextCursor)
+                                    .size(comments.size())
+                                    .hasNext(hasNext)
+                                    .build());
+                });
+    }
+
+    /**
+     * 커서 이후의 댓글을 모아 두지 않고 Mongo 커서에서 읽는 대로 내려보낸다. 한 번에 max-size 건까지만 보낸다.
+     */
+    @Override
+    public Flux<CommentResDto> streamCommentsByPostUuid(
+            String postUuid, String cursor, CommentSortType commentSortType) {
+        CommentCursor commentCursor = CommentCursor.decode(cursor, commentSortType);
+        return commentReactiveRepository.findByPostUuidAfter(postUuid, commentCursor, commentSortType, maxStreamSize)
+                .map(CommentResDto::from);
+    }
+
+    @Override
+    public Mono<CommentResDto> getCommentByCommentUuid(String commentUuid) {
+        return commentReactiveRepository.findNotDeletedByCommentUuid(commentUuid)
+                .map(CommentResDto::from)
+                .switchIfEmpty(Mono.error(() -> new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT)));
+    }
+
+    @Override
+    public Mono<CommentLikeCountResDto> getCommentLikeCount(String commentUuid) {
+        return commentReactiveRepository.findLikeCountByCommentUuid(commentUuid)
+                .defaultIfEmpty(0L)
+                .map(likeCount -> CommentLikeCountResDto.builder()
+                        .commentUuid(commentUuid)
+                        .likeCount(likeCount)
+                        .build());
+    }
+
+    private Mono<List<CommentResDto>> applyLikedByMe(List<CommentResDto> comments, String memberUuid) {
+        if (memberUuid == null || memberUuid.isBlank() || comments.isEmpty()) {
+            return Mono.just(comments);
+        }
+        return commentReactiveRepository.findLikedCommentUuids(
+                        memberUuid, comments.stream().map(CommentResDto::getCommentUuid).toList())
+                .collect(HashSet<String>::new, HashSet::add)
+                .map(liked -> comments.stream()
+                        .map(comment -> comment.withLikedByMe(liked.contains(comment.getCommentUuid())))
+                        .toList());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.common.concurrent.SingleFlight;
+import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 같은 게시글 목록 페이지를 동시에 조회하면 Mongo 조회를 한 번만 실행하고 결과를 나눠 받는다.
+ * 캐시 뒤의 실제 조회에 적용되어, 캐시가 비어 있거나 만료된 순간의 조회 몰림을 막는다.
+ * 댓글 상세는 CommentDetailCache(Caffeine)가 같은 키의 적재를 이미 한 번만 실행하므로 여기서 다루지 않는다.
+ */
+@Component
+public class CommentReadCoalescer {
+
+    private final SingleFlight<ListPageKey, CommentListPageResDto> listPages;
+
+    public CommentReadCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${comment.single-flight.list.timeout-ms:2000}") long listTimeoutMs,
+            @Value("${comment.single-flight.list.on-timeout:REJECT}") SingleFlight.OnTimeout listOnTimeout
+    ) {
+        this.listPages = new SingleFlight<>("commentList", listTimeoutMs, listOnTimeout, meterRegistry);
+    }
+
+    public CommentListPageResDto listPage(
+            String postUuid, CommentSortType commentSortType, int page, Supplier<CommentListPageResDto> loader) {
+        return listPages.execute(new ListPageKey(postUuid, commentSortType, page), loader);
+    }
+
+    private record ListPageKey(String postUuid, CommentSortType commentSortType, int page) {
+    }
+}
@@ -2,20 +2,41 @@ package com.example.commentservice.domain.comment.application;
 
 import com.example.commentservice.domain.comment.dto.in.CommentCreateReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentDeleteReqDto;
+import com.example.commentservice.domain.comment.dto.in.CommentReplyCreateReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentUpdateReqDto;
+import com.example.commentservice.domain.comment.dto.in.PostCommentCountBatchReqDto;
+import com.example.commentservice.domain.comment.dto.out.CommentCursorPageResDto;
 import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
 import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.dto.out.PostCommentCountResDto;
+import com.example.commentservice.domain.comment.dto.out.PostCommentVersionResDto;
 import com.example.commentservice.domain.comment.entity.CommentSortType;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface CommentService {
 
     void createComment(CommentCreateReqDto commentCreateReqDto);
 
+    void createReply(CommentReplyCreateReqDto commentReplyCreateReqDto);
+
     void updateComment(CommentUpdateReqDto commentUpdateReqDto);
 
     void deleteComment(CommentDeleteReqDto commentDeleteReqDto);
 
     CommentResDto getCommentByCommentUuid(String commentUuid);
 
-    CommentListPageResDto getCommentsByPostUuid(String postUuid, int page, CommentSortType commentSortType);
+    CommentListPageResDto getCommentsByPostUuid(
+            String postUuid, int page, CommentSortType commentSortType, String memberUuid,
+            PostCommentVersionResDto postCommentVersion);
+
+    Optional<PostCommentVersionResDto> getCommentListVersion(String postUuid);
+
+    CommentCursorPageResDto getCommentsByPostUuidWithCursor(
+            String postUuid, String cursor, CommentSortType commentSortType, String memberUuid);
+
+    CommentCursorPageResDto getRepliesWithCursor(String commentUuid, String cursor, String memberUuid);
+
+    List<PostCommentCountResDto> getCommentCounts(PostCommentCountBatchReqDto postCommentCountBatchReqDto);
 }
@@ -1,28 +1,46 @@
 package com.example.commentservice.domain.comment.application;
 
-import com.example.commentservice.client.post.PostServiceClient;
+import com.example.commentservice.client.post.PostExistenceCache;
 import com.example.commentservice.common.exception.BaseException;
-import com.example.commentservice.common.kafka.event.CommentCreatedEvent;
-import com.example.commentservice.common.kafka.event.CommentDeletedEvent;
-import com.example.commentservice.common.kafka.util.KafkaProducer;
 import com.example.commentservice.common.response.BaseResponseStatus;
 import com.example.commentservice.domain.comment.dto.in.CommentCreateReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentDeleteReqDto;
+import com.example.commentservice.domain.comment.dto.in.CommentReplyCreateReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentUpdateReqDto;
+import com.example.commentservice.domain.comment.dto.in.PostCommentCountBatchReqDto;
+import com.example.commentservice.domain.comment.dto.out.CommentCursorPageResDto;
 import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
 import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.dto.out.PostCommentCountResDto;
+import com.example.commentservice.domain.comment.dto.out.PostCommentVersionResDto;
 import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.CommentCursor;
+import com.example.commentservice.domain.comment.entity.CommentOutboxEvent;
+import com.example.commentservice.domain.comment.entity.CommentOutboxEventType;
 import com.example.commentservice.domain.comment.entity.CommentSortType;
+import com.example.commentservice.domain.comment.entity.PostCommentCount;
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.CommentLikeRepository;
 import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -31,61 +49,312 @@ import java.util.List;
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
-    private final PostServiceClient postServiceClient;
-    private final KafkaProducer kafkaProducer;
+    private final CommentLikeRepository commentLikeRepository;
+    private final PostCommentCountRepository postCommentCountRepository;
+    private final PostExistenceCache postExistenceCache;
+    private final CommentDetailCache commentDetailCache;
+    private final CommentListCache commentListCache;
+    private final HotPostTracker hotPostTracker;
+    private final CommentReadCoalescer commentReadCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_COUNT_BATCH_SIZE = 100;
+
+    @Value("${comment.reply.preview-size:3}")
+    private int replyPreviewSize;
 
     @Transactional
     @Override
     public void createComment(CommentCreateReqDto commentCreateReqDto) {
-        Comment comment = commentRepository.save(commentCreateReqDto.toEntity());
-        kafkaProducer.sendCommentCreatedEvent(CommentCreatedEvent.from(comment));
+        if (!postExistenceCache.exists(commentCreateReqDto.getPostUuid())) {
+            throw new BaseException(BaseResponseStatus.POST_NOT_FOUND);
+        }
+
+        // Kafka 이벤트는 댓글과 같은 문서에 outbox 로 저장하고, 전송은 CommentOutboxRelay 가 담당한다.
+        Comment comment = commentCreateReqDto.toEntity();
+        comment.addOutboxEvent(CommentOutboxEvent.of(CommentOutboxEventType.CREATED));
+        postCommentCountRepository.beginCountChange(comment.getPostUuid());
+        try {
+            commentRepository.save(comment);
+        } catch (RuntimeException e) {
+            postCommentCountRepository.abortCountChanges(List.of(comment.getPostUuid()));
+            throw e;
+        }
+        postCommentCountRepository.completeCountChange(comment.getPostUuid(), 1, 1);
+        eventPublisher.publishEvent(CommentChangedEvent.of(CommentChangedEvent.Type.CREATED, comment));
     }
 
+    /**
+     * 스레드 최상위 댓글의 replyCount 를 먼저 올려 부모 스레드가 살아 있는지 확인하고, 답글을 저장한다.
+     * Mongo 트랜잭션을 쓰지 않으므로 저장이 실패하면 올렸던 replyCount 를 되돌린다.
+     */
     @Transactional
     @Override
-    public void updateComment(CommentUpdateReqDto commentUpdateReqDto) {
-        Comment comment = commentRepository.findNotDeletedByCommentUuid(commentUpdateReqDto.getCommentUuid())
+    public void createReply(CommentReplyCreateReqDto commentReplyCreateReqDto) {
+        Comment parent = commentRepository.findNotDeletedByCommentUuid(commentReplyCreateReqDto.getParentCommentUuid())
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT));
 
-        validateCommentOwner(comment, commentUpdateReqDto.getMemberUuid());
+        Comment reply = commentReplyCreateReqDto.toEntity(parent);
+        reply.addOutboxEvent(CommentOutboxEvent.of(CommentOutboxEventType.CREATED));
 
-        comment.updateContent(commentUpdateReqDto.getContent());
-        commentRepository.save(comment);
+        commentRepository.incrementReplyCount(reply.getRootCommentUuid(), 1)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT));
+        postCommentCountRepository.beginCountChange(reply.getPostUuid());
+        try {
+            commentRepository.save(reply);
+        } catch (RuntimeException e) {
+            commentRepository.incrementReplyCount(reply.getRootCommentUuid(), -1);
+            postCommentCountRepository.abortCountChanges(List.of(reply.getPostUuid()));
+            throw e;
+        }
+
+        postCommentCountRepository.completeCountChange(reply.getPostUuid(), 0, 1);
+        commentDetailCache.evict(reply.getRootCommentUuid());
+        eventPublisher.publishEvent(CommentChangedEvent.of(CommentChangedEvent.Type.CREATED, reply));
     }
 
+    @Transactional
+    @Override
+    public void updateComment(CommentUpdateReqDto commentUpdateReqDto) {
+        Comment comment = commentRepository.updateContent(
+                        commentUpdateReqDto.getCommentUuid(),
+                        commentUpdateReqDto.getMemberUuid(),
+                        commentUpdateReqDto.getContent())
+                .orElseThrow(() -> resolveWriteFailure(
+                        commentUpdateReqDto.getCommentUuid(), commentUpdateReqDto.getMemberUuid()));
+
+        commentDetailCache.put(CommentResDto.from(comment));
+        eventPublisher.publishEvent(CommentChangedEvent.of(CommentChangedEvent.Type.UPDATED, comment));
+    }
+
+    /**
+     * 카운터의 쓰기 시작을 먼저 기록해야 하므로 삭제 전에 댓글을 읽어 게시글과 작성자를 확인한다.
+     * 그 사이 다른 요청이 먼저 삭제했으면 증감 없이 쓰기를 마치고 실패를 반환한다.
+     */
     @Transactional
     @Override
     public void deleteComment(CommentDeleteReqDto commentDeleteReqDto) {
-        Comment comment = commentRepository.findNotDeletedByCommentUuid(commentDeleteReqDto.getCommentUuid())
+        Comment target = commentRepository.findNotDeletedByCommentUuid(commentDeleteReqDto.getCommentUuid())
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT));
-        validateCommentOwner(comment, commentDeleteReqDto.getMemberUuid());
-        comment.softDelete();
-        commentRepository.save(comment);
-        kafkaProducer.sendCommentDeletedEvent(CommentDeletedEvent.from(comment));
+        validateCommentOwner(target, commentDeleteReqDto.getMemberUuid());
+
+        postCommentCountRepository.beginCountChange(target.getPostUuid());
+        Optional<Comment> deleted;
+        try {
+            deleted = commentRepository.softDelete(
+                    commentDeleteReqDto.getCommentUuid(), commentDeleteReqDto.getMemberUuid());
+        } catch (RuntimeException e) {
+            postCommentCountRepository.abortCountChanges(List.of(target.getPostUuid()));
+            throw e;
+        }
+        if (deleted.isEmpty()) {
+            postCommentCountRepository.completeCountChange(target.getPostUuid(), 0, 0);
+            throw resolveWriteFailure(commentDeleteReqDto.getCommentUuid(), commentDeleteReqDto.getMemberUuid());
+        }
+        Comment comment = deleted.get();
+
+        commentDetailCache.evict(comment.getCommentUuid());
+        if (comment.isReply()) {
+            commentRepository.incrementReplyCount(comment.getRootCommentUuid(), -1);
+            commentDetailCache.evict(comment.getRootCommentUuid());
+        }
+        postCommentCountRepository.completeCountChange(comment.getPostUuid(), comment.isReply() ? 0 : -1, -1);
+        eventPublisher.publishEvent(CommentChangedEvent.of(CommentChangedEvent.Type.DELETED, comment));
     }
 
     @Override
     public CommentResDto getCommentByCommentUuid(String commentUuid) {
-        Comment comment = commentRepository.findNotDeletedByCommentUuid(commentUuid)
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT));
-        return CommentResDto.from(comment);
+        // Caffeine 이 같은 키의 동시 적재를 한 번만 실행하므로 별도의 single-flight 는 두지 않는다.
+        CommentResDto comment = commentDetailCache.get(commentUuid, key ->
+                commentRepository.findCommentViewByCommentUuid(key).orElse(null));
+        if (comment == null) {
+            throw new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT);
+        }
+        return comment;
     }
 
     @Override
-    public CommentListPageResDto getCommentsByPostUuid(String postUuid, int page, CommentSortType commentSortType) {
-        Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE, commentSortType.getSort());
-        Page<Comment> resultPage = commentRepository.findCommentByPostUuid(postUuid, pageable);
+    public CommentListPageResDto getCommentsByPostUuid(
+            String postUuid, int page, CommentSortType commentSortType, String memberUuid,
+            PostCommentVersionResDto postCommentVersion) {
+        // 앞쪽 페이지는 회원과 무관한 형태로 캐시하고, likedByMe 는 캐시 조회 후에 덧붙인다.
+        // 캐시에 없는 페이지를 동시에 요청하면 같은 페이지 조회는 한 번만 실행한다.
+        // 응답의 ETag 가 postCommentVersion 기준이므로, 그 version 보다 먼저 읽은 캐시 페이지는 쓰지 않는다.
+        long version = postCommentVersion == null ? 0 : postCommentVersion.getVersion();
+        CommentListPageResDto cached = commentListCache.get(postUuid, commentSortType, page, version, () ->
+                commentReadCoalescer.listPage(postUuid, commentSortType, page, () -> {
+                    Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE, commentSortType.getSort());
+                    List<CommentResDto> comments = commentRepository.findCommentViewsByPostUuid(postUuid, pageable);
+                    Page<CommentResDto> resultPage = new PageImpl<>(comments, pageable, rootCommentCount(postUuid));
+
+                    return new CommentListPageResDto(
+                            withReplyPreviews(resultPage.getContent()), page,
+                            resultPage.getSize(), resultPage.hasNext(), resultPage.getTotalPages(),
+                            resultPage.getTotalElements()
+                    );
+                }));
+
+        if (memberUuid == null || memberUuid.isBlank()) {
+            return cached;
+        }
+        return cached.withComments(applyLikedByMe(cached.getComments(), memberUuid));
+    }
+
+    @Override
+    public CommentCursorPageResDto getCommentsByPostUuidWithCursor(
+            String postUuid, String cursor, CommentSortType commentSortType, String memberUuid) {
+        CommentCursor commentCursor = CommentCursor.decode(cursor, commentSortType);
+
+        // 한 건을 더 조회해 count 쿼리 없이 다음 페이지 존재 여부를 판단한다.
+        List<CommentResDto> fetched = commentRepository.findCommentViewsByPostUuidAfter(
+                postUuid, commentCursor, commentSortType, DEFAULT_PAGE_SIZE + 1);
+        boolean hasNext = fetched.size() > DEFAULT_PAGE_SIZE;
+        List<CommentResDto> content = hasNext ? fetched.subList(0, DEFAULT_PAGE_SIZE) : fetched;
+
+        String nextCursor = hasNext
+                ? CommentCursor.of(commentSortType, content.get(content.size() - 1)).encode()
+                : null;
+
+        return CommentCursorPageResDto.builder()
+                .comments(applyLikedByMe(withReplyPreviews(content), memberUuid))
+                .nextCursor(nextCursor)
+                .size(content.size())
+                .hasNext(hasNext)
+                .build();
+    }
 
-        List<CommentResDto> comments = resultPage.getContent().stream()
-                .map(CommentResDto::from)
+    @Override
+    public CommentCursorPageResDto getRepliesWithCursor(String commentUuid, String cursor, String memberUuid) {
+        CommentCursor commentCursor = CommentCursor.decode(cursor, CommentSortType.RECENT);
+
+        List<CommentResDto> fetched = commentRepository.findReplyViewsAfter(
+                commentUuid, commentCursor, DEFAULT_PAGE_SIZE + 1);
+        boolean hasNext = fetched.size() > DEFAULT_PAGE_SIZE;
+        List<CommentResDto> content = hasNext ? fetched.subList(0, DEFAULT_PAGE_SIZE) : fetched;
+
+        String nextCursor = hasNext
+                ? CommentCursor.of(CommentSortType.RECENT, content.get(content.size() - 1)).encode()
+                : null;
+
+        return CommentCursorPageResDto.builder()
+                .comments(applyLikedByMe(content, memberUuid))
+                .nextCursor(nextCursor)
+                .size(content.size())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 게시글별 카운터에서 댓글 수(답글 포함)를 읽는다. 카운터가 아직 채워지지 않은 게시글은 집계 한 번으로 함께 계산하고,
+     * 계산한 값으로 카운터를 채워 다음 조회부터는 카운터만 읽는다.
+     */
+    @Override
+    public List<PostCommentCountResDto> getCommentCounts(PostCommentCountBatchReqDto postCommentCountBatchReqDto) {
+        Set<String> postUuids = new LinkedHashSet<>(postCommentCountBatchReqDto.getPostUuids());
+        if (postUuids.size() > MAX_COUNT_BATCH_SIZE) {
+            throw new BaseException(BaseResponseStatus.TOO_MANY_POST_UUIDS);
+        }
+
+        Map<String, PostCommentCount> counts = new HashMap<>();
+        postCommentCountRepository.findAllById(postUuids).forEach(count -> {
+            if (count.isSeeded()) {
+                counts.put(count.getPostUuid(), count);
+            }
+        });
+        List<String> missing = postUuids.stream().filter(postUuid -> !counts.containsKey(postUuid)).toList();
+        if (!missing.isEmpty()) {
+            counts.putAll(postCommentCountRepository.seedFromComments(missing));
+        }
+
+        return postUuids.stream()
+                .map(postUuid -> PostCommentCountResDto.of(postUuid, counts.get(postUuid).getCommentCount()))
                 .toList();
+    }
+
+    /**
+     * 게시글 댓글 목록의 version 과 마지막 변경 시각. 카운터 문서 하나만 읽으며 comment 컬렉션은 조회하지 않는다.
+     * 아직 카운터가 없는 게시글은 empty 를 반환한다.
+     * 목록 요청마다 한 번 호출되므로 304 로 끝나는 요청까지 포함해 여기서 hot post 조회를 기록한다.
+     */
+    @Override
+    public Optional<PostCommentVersionResDto> getCommentListVersion(String postUuid) {
+        hotPostTracker.record(postUuid);
+        return postCommentCountRepository.findById(postUuid).map(PostCommentVersionResDto::from);
+    }
+
+    /**
+     * 카운터가 아직 채워지지 않았으면(문서가 없거나 증감분만 있는 경우) comment 컬렉션 집계로 채운 값을 쓴다.
+     */
+    private long rootCommentCount(String postUuid) {
+        PostCommentCount count = postCommentCountRepository.findById(postUuid)
+                .filter(PostCommentCount::isSeeded)
+                .orElseGet(() -> postCommentCountRepository.seedFromComments(List.of(postUuid)).get(postUuid));
+        return Math.max(0, count.getRootCommentCount());
+    }
 
-        return new CommentListPageResDto(
-                comments, page, resultPage.getSize(), resultPage.hasNext(), resultPage.getTotalPages(),
-                resultPage.getTotalElements()
-        );
+    /**
+     * 페이지의 최상위 댓글 중 답글이 있는 댓글만 모아 앞쪽 답글을 한 번의 조회로 붙인다.
+     */
+    private List<CommentResDto> withReplyPreviews(List<CommentResDto> comments) {
+        if (replyPreviewSize <= 0) {
+            return comments;
+        }
+        List<String> threads = comments.stream()
+                .filter(comment -> comment.getReplyCount() > 0)
+                .map(CommentResDto::getCommentUuid)
+                .toList();
+        if (threads.isEmpty()) {
+            return comments;
+        }
+
+        Map<String, List<CommentResDto>> replies =
+                commentRepository.findReplyViewsByRootCommentUuids(threads, replyPreviewSize);
+        return comments.stream()
+                .map(comment -> replies.containsKey(comment.getCommentUuid())
+                        ? comment.withReplies(replies.get(comment.getCommentUuid()))
+                        : comment)
+                .toList();
+    }
+
+    /**
+     * 회원 UUID 가 있으면 페이지의 댓글 전체(미리보기 답글 포함)에 대한 좋아요 여부를 한 번의 조회로 채운다.
+     */
+    private List<CommentResDto> applyLikedByMe(List<CommentResDto> comments, String memberUuid) {
+        if (memberUuid == null || memberUuid.isBlank() || comments.isEmpty()) {
+            return comments;
+        }
+        List<String> commentUuids = new ArrayList<>();
+        comments.forEach(comment -> {
+            commentUuids.add(comment.getCommentUuid());
+            if (comment.getReplies() != null) {
+                comment.getReplies().forEach(reply -> commentUuids.add(reply.getCommentUuid()));
+            }
+        });
+        Set<String> liked = commentLikeRepository.findLikedCommentUuids(memberUuid, commentUuids);
+        return comments.stream()
+                .map(comment -> markLikedByMe(comment, liked))
+                .toList();
+    }
+
+    private static CommentResDto markLikedByMe(CommentResDto comment, Set<String> liked) {
+        CommentResDto marked = comment.withLikedByMe(liked.contains(comment.getCommentUuid()));
+        if (comment.getReplies() == null) {
+            return marked;
+        }
+        return marked.withReplies(comment.getReplies().stream()
+                .map(reply -> reply.withLikedByMe(liked.contains(reply.getCommentUuid())))
+                .toList());
+    }
+
+    /**
+     * 조건부 수정 / 삭제가 반영되지 않은 경우에만 댓글을 다시 읽어 실패 원인(없음 / 권한 없음)을 구분한다.
+     */
+    private BaseException resolveWriteFailure(String commentUuid, String memberUuid) {
+        Comment comment = commentRepository.findNotDeletedByCommentUuid(commentUuid)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT));
+        validateCommentOwner(comment, memberUuid);
+        return new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT);
     }
 
     private static void validateCommentOwner(Comment comment, String memberUuid) {
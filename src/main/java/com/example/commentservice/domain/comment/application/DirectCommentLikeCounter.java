@@ -0,0 +1,52 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "comment.like-counter.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+public class DirectCommentLikeCounter implements CommentLikeCounter {
+
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public boolean increment(String commentUuid, long delta) {
+        Optional<Comment> comment = commentRepository.incrementLikeCount(commentUuid, delta);
+        comment.ifPresent(changed ->
+                eventPublisher.publishEvent(CommentChangedEvent.of(CommentChangedEvent.Type.LIKE_CHANGED, changed)));
+        return comment.isPresent();
+    }
+
+    @Override
+    public long getLikeCount(String commentUuid) {
+        return commentRepository.findLikeCountByCommentUuid(commentUuid).map(Comment::getLikeCount).orElse(0L);
+    }
+
+    @Override
+    public Map<String, Long> getLikeCounts(Collection<String> commentUuids) {
+        return commentRepository.findLikeCountsByCommentUuids(commentUuids);
+    }
+
+    /**
+     * 증감을 바로 반영하므로 남은 값이 없다.
+     */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public boolean hasPendingDelta(String commentUuid) {
+        return false;
+    }
+}
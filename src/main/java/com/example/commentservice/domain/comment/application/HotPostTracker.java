@@ -0,0 +1,125 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.common.sketch.CountMinTopK;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회가 몰리는 게시글(hot post)을 찾는다.
+ * 모든 목록 요청의 postUuid 를 count-min sketch 에 기록하고, refresh 주기마다 추정 조회 수 상위 top-k 개 중
+ * min-hits 이상인 게시글을 hot set 으로 교체한다. decay 주기마다 조회 수를 절반으로 줄여 최근 추세를 따라간다.
+ * hot set 교체 직후 등록된 refresh 작업(고정 페이지 갱신)을 이어서 실행하며, 이 작업들은 전용 스레드에서 돌아
+ * Mongo 조회가 느려져도 공용 @Scheduled 스레드를 막지 않는다.
+ */
+@Slf4j
+@Component
+public class HotPostTracker {
+
+    private final CountMinTopK<String> sketch;
+    private final long minHits;
+    private final long refreshIntervalMs;
+    private final long decayIntervalMs;
+    private final List<Runnable> refreshListeners = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService hotPostExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hot-post-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Map<String, Long> hotPosts = Map.of();
+
+    public HotPostTracker(
+            MeterRegistry meterRegistry,
+            @Value("${comment.hot-post.top-k:20}") int topK,
+            @Value("${comment.hot-post.min-hits:50}") long minHits,
+            @Value("${comment.hot-post.sketch-depth:4}") int sketchDepth,
+            @Value("${comment.hot-post.sketch-width:4096}") int sketchWidth,
+            @Value("${comment.hot-post.refresh-interval-ms:5000}") long refreshIntervalMs,
+            @Value("${comment.hot-post.decay-interval-ms:60000}") long decayIntervalMs
+    ) {
+        this.sketch = new CountMinTopK<>(sketchDepth, sketchWidth, topK);
+        this.minHits = minHits;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.decayIntervalMs = decayIntervalMs;
+
+        Gauge.builder("comment.hot-post.size", this, tracker -> tracker.hotPosts.size())
+                .description("현재 hot 으로 분류된 게시글 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        hotPostExecutor.scheduleWithFixedDelay(
+                () -> runSafely("hot set 갱신", this::refresh), refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        hotPostExecutor.scheduleWithFixedDelay(
+                () -> runSafely("조회 수 decay", sketch::decay), decayIntervalMs, decayIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hotPostExecutor.shutdownNow();
+    }
+
+    /**
+     * hot set 을 교체할 때마다 이어서 실행할 작업을 등록한다.
+     */
+    public void addRefreshListener(Runnable listener) {
+        refreshListeners.add(listener);
+    }
+
+    public void record(String postUuid) {
+        sketch.add(postUuid);
+    }
+
+    public boolean isHot(String postUuid) {
+        return hotPosts.containsKey(postUuid);
+    }
+
+    public Set<String> hotPostUuids() {
+        return hotPosts.keySet();
+    }
+
+    /**
+     * hot set 을 만든 시점의 추정 조회 수를 많은 순으로 반환한다.
+     */
+    public Map<String, Long> hotPosts() {
+        return hotPosts;
+    }
+
+    public void refreshHotSet() {
+        List<Map.Entry<String, Long>> top = sketch.topK(minHits);
+        Map<String, Long> refreshed = new LinkedHashMap<>();
+        top.forEach(entry -> refreshed.put(entry.getKey(), entry.getValue()));
+        this.hotPosts = refreshed;
+    }
+
+    private void refresh() {
+        refreshHotSet();
+        refreshListeners.forEach(listener -> runSafely("hot post refresh 작업", listener));
+    }
+
+    // 예외가 전파되면 ScheduledExecutorService 가 이후 실행을 멈추므로 여기서 막는다.
+    private static void runSafely(String name, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("{} 실패, 다음 주기에 재시도", name, e);
+        }
+    }
+}
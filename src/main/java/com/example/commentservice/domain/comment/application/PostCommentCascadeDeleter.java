@@ -0,0 +1,193 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.PostCommentCascade;
+import com.example.commentservice.domain.comment.entity.PostCommentCascadeStatus;
+import com.example.commentservice.domain.comment.entity.PostCommentCount;
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCascadeRepository;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글이 삭제되면 그 게시글의 댓글을 chunk 단위 updateMany 로 soft delete 한다.
+ * 삭제 이벤트는 각 댓글의 outbox 에 함께 기록되어 relay 가 배치로 전송한다.
+ * 진행 상황은 post_comment_cascade 에 기록해 중단되더라도 재시작 후 이어서 처리하며,
+ * 여러 인스턴스 중 lease 를 선점한 한 곳에서만 처리한다. lease 는 chunk 마다 연장되므로 lease-seconds 는
+ * chunk 하나의 처리 시간과 그 뒤 쉬는 시간의 합보다 길어야 한다.
+ * chunk 사이에는 처리 시간에 비례해 쉬어 요청 처리 중인 Mongo 부하를 일정 비율 이하로 유지한다.
+ */
+@Slf4j
+@Component
+public class PostCommentCascadeDeleter {
+
+    private final CommentRepository commentRepository;
+    private final PostCommentCascadeRepository postCommentCascadeRepository;
+    private final PostCommentCountRepository postCommentCountRepository;
+    private final CommentDetailCache commentDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final double dutyCycle;
+    private final long minPauseMs;
+    private final long leaseSeconds;
+    private final String owner = UUID.randomUUID().toString();
+
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService cascadeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-comment-cascade");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostCommentCascadeDeleter(
+            CommentRepository commentRepository,
+            PostCommentCascadeRepository postCommentCascadeRepository,
+            PostCommentCountRepository postCommentCountRepository,
+            CommentDetailCache commentDetailCache,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${comment.cascade-delete.chunk-size:500}") int chunkSize,
+            @Value("${comment.cascade-delete.duty-cycle:0.25}") double dutyCycle,
+            @Value("${comment.cascade-delete.min-pause-ms:50}") long minPauseMs,
+            @Value("${comment.cascade-delete.lease-seconds:60}") long leaseSeconds
+    ) {
+        this.commentRepository = commentRepository;
+        this.postCommentCascadeRepository = postCommentCascadeRepository;
+        this.postCommentCountRepository = postCommentCountRepository;
+        this.commentDetailCache = commentDetailCache;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.dutyCycle = Math.min(1.0, Math.max(0.01, dutyCycle));
+        this.minPauseMs = minPauseMs;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /**
+     * checkpoint 를 먼저 저장한 뒤 반환하므로, 호출자가 이벤트 offset 을 커밋한 이후에 중단되어도 재시작 시 이어서 처리된다.
+     * 이미 checkpoint 가 있으면(이벤트 재전달) 진행 상황을 그대로 둔다.
+     */
+    public void submit(String postUuid) {
+        postCommentCascadeRepository.startIfAbsent(postUuid);
+        schedule(postUuid);
+    }
+
+    /**
+     * 다른 인스턴스가 처리하다 멈춘 checkpoint 는 lease 가 만료된 뒤에야 선점할 수 있으므로 lease 주기마다 다시 확인한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        cascadeExecutor.scheduleWithFixedDelay(this::resumeInterrupted, 0, leaseSeconds, TimeUnit.SECONDS);
+    }
+
+    public void resumeInterrupted() {
+        try {
+            List<PostCommentCascade> interrupted =
+                    postCommentCascadeRepository.findByStatus(PostCommentCascadeStatus.RUNNING);
+            interrupted.stream()
+                    .filter(cascade -> cascade.getLeaseUntil() == null
+                            || cascade.getLeaseUntil().isBefore(LocalDateTime.now()))
+                    .forEach(cascade -> {
+                        log.info("중단된 게시글 댓글 일괄 삭제 재개: postUuid={}", cascade.getPostUuid());
+                        schedule(cascade.getPostUuid());
+                    });
+        } catch (RuntimeException e) {
+            log.error("중단된 게시글 댓글 일괄 삭제 조회 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cascadeExecutor.shutdownNow();
+    }
+
+    private void schedule(String postUuid) {
+        if (running.add(postUuid)) {
+            cascadeExecutor.execute(() -> {
+                try {
+                    cascade(postUuid);
+                } catch (RuntimeException e) {
+                    log.error("게시글 댓글 일괄 삭제 실패, 재시작 시 이어서 처리: postUuid={}", postUuid, e);
+                } finally {
+                    running.remove(postUuid);
+                }
+            });
+        }
+    }
+
+    private void cascade(String postUuid) {
+        Optional<PostCommentCascade> claimed = postCommentCascadeRepository.claim(postUuid, owner, nextLease());
+        if (claimed.isEmpty()) {
+            log.debug("다른 인스턴스가 처리 중이거나 완료된 게시글 댓글 일괄 삭제: postUuid={}", postUuid);
+            return;
+        }
+        long deletedCount = claimed.get().getDeletedCount();
+
+        // 이미 삭제된 댓글은 조회 조건에서 빠지므로, 중단 후 재시작해도 남은 댓글부터 처리된다.
+        while (!Thread.currentThread().isInterrupted()) {
+            long startedAt = System.nanoTime();
+            List<Comment> chunk = commentRepository.findNotDeletedIdsByPostUuid(postUuid, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            long deleted = commentRepository.softDeleteByIds(chunk.stream().map(Comment::getId).toList());
+            chunk.forEach(comment -> commentDetailCache.evict(comment.getCommentUuid()));
+            deletedCount += deleted;
+            if (!postCommentCascadeRepository.progress(postUuid, owner, deleted, nextLease())) {
+                log.warn("게시글 댓글 일괄 삭제 lease 를 잃어 중단: postUuid={}", postUuid);
+                return;
+            }
+
+            if (!pause(System.nanoTime() - startedAt)) {
+                return;
+            }
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+
+        if (!postCommentCascadeRepository.complete(postUuid, owner)) {
+            log.warn("게시글 댓글 일괄 삭제 lease 를 잃어 완료 처리를 넘김: postUuid={}", postUuid);
+            return;
+        }
+        // 카운터 문서를 지우면 version 이 처음부터 다시 시작되므로, 0 으로 덮어써 이전 ETag 와 겹치지 않게 한다.
+        postCommentCountRepository.replaceCounts(List.of(PostCommentCount.empty(postUuid)));
+        eventPublisher.publishEvent(new CommentChangedEvent(postUuid, null, CommentChangedEvent.Type.DELETED));
+        log.info("게시글 댓글 일괄 삭제 완료: postUuid={}, deleted={}", postUuid, deletedCount);
+    }
+
+    private LocalDateTime nextLease() {
+        return LocalDateTime.now().plusSeconds(leaseSeconds);
+    }
+
+    /**
+     * chunk 처리 시간이 전체 시간의 duty-cycle 비율이 되도록 쉰다.
+     */
+    private boolean pause(long elapsedNanos) {
+        long elapsedMs = elapsedNanos / 1_000_000;
+        long pauseMs = Math.max(minPauseMs, (long) (elapsedMs * (1 / dutyCycle - 1)));
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
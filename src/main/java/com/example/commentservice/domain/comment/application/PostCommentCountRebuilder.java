@@ -0,0 +1,127 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.common.exception.BaseException;
+import com.example.commentservice.common.response.BaseResponseStatus;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * post_comment_count 를 comment 컬렉션에서 다시 계산한다.
+ * 댓글이 있는 게시글 UUID 를 커서로 읽어 batch-size 단위로 나누고, batch 마다 집계 + 저장을
+ * parallelism 개의 작업 스레드에서 동시에 실행한다. 대기 중인 batch 수를 제한해 게시글 목록 전체를 메모리에 올리지 않는다.
+ * 저장은 집계 전 countVersion 이 그대로인 게시글에만 하므로, 실행 중에 들어온 증감을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class PostCommentCountRebuilder {
+
+    private final PostCommentCountRepository postCommentCountRepository;
+    private final int batchSize;
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-comment-count-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService workers;
+
+    public PostCommentCountRebuilder(
+            PostCommentCountRepository postCommentCountRepository,
+            @Value("${comment.post-comment-count.rebuild.batch-size:200}") int batchSize,
+            @Value("${comment.post-comment-count.rebuild.parallelism:4}") int parallelism
+    ) {
+        this.postCommentCountRepository = postCommentCountRepository;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "post-comment-count-rebuild-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 재계산을 백그라운드에서 시작한다. 이미 실행 중이면 예외를 던진다.
+     */
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BaseException(BaseResponseStatus.POST_COMMENT_COUNT_REBUILD_RUNNING);
+        }
+        coordinator.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("게시글 댓글 수 재계산 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        AtomicLong rebuilt = new AtomicLong();
+        AtomicLong failedBatches = new AtomicLong();
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+
+        try (Stream<String> postUuids = postCommentCountRepository.streamCommentedPostUuids()) {
+            Iterator<String> iterator = postUuids.iterator();
+            while (iterator.hasNext()) {
+                List<String> batch = new ArrayList<>(batchSize);
+                while (iterator.hasNext() && batch.size() < batchSize) {
+                    batch.add(iterator.next());
+                }
+
+                inFlight.acquire();
+                workers.execute(() -> {
+                    try {
+                        postCommentCountRepository.seedFromComments(batch);
+                        rebuilt.addAndGet(batch.size());
+                    } catch (RuntimeException e) {
+                        failedBatches.incrementAndGet();
+                        log.warn("게시글 댓글 수 재계산 batch 실패: size={}", batch.size(), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            // 모든 batch 가 끝날 때까지 기다린다.
+            inFlight.acquire(parallelism * 2);
+            inFlight.release(parallelism * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("게시글 댓글 수 재계산 중단: rebuilt={}", rebuilt.get());
+            return;
+        }
+
+        log.info("게시글 댓글 수 재계산 완료: posts={}, failedBatches={}, elapsedMs={}",
+                rebuilt.get(), failedBatches.get(), System.currentTimeMillis() - startedAt);
+    }
+}
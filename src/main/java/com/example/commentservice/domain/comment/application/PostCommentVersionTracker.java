@@ -0,0 +1,35 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 수가 바뀌지 않는 변경(수정 / 좋아요)에 게시글의 목록 version 을 올린다.
+ * 등록 / 삭제는 댓글 수 $inc 와 같은 update 에서 version 을 올리므로 여기서 다시 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentVersionTracker {
+
+    private final PostCommentCountRepository postCommentCountRepository;
+
+    @EventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.postUuid() == null
+                || event.type() == CommentChangedEvent.Type.CREATED
+                || event.type() == CommentChangedEvent.Type.DELETED) {
+            return;
+        }
+        try {
+            postCommentCountRepository.touch(event.postUuid());
+        } catch (RuntimeException e) {
+            // version 이 오르지 않으면 클라이언트가 이전 목록을 304 로 계속 받을 수 있으므로 남겨 둔다.
+            log.error("게시글 댓글 목록 version 갱신 실패: postUuid={}", event.postUuid(), e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.commentservice.domain.comment.dto.in;
 
 import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.vo.in.CommentBulkCreateReqVo;
 import com.example.commentservice.domain.comment.vo.in.CommentCreateReqVo;
 import lombok.Builder;
 import lombok.Getter;
@@ -49,4 +50,12 @@ public class CommentCreateReqDto {
                 .content(commentCreateReqVo.getContent())
                 .build();
     }
+
+    public static CommentCreateReqDto from(CommentBulkCreateReqVo commentBulkCreateReqVo) {
+        return CommentCreateReqDto.builder()
+                .postUuid(commentBulkCreateReqVo.getPostUuid())
+                .memberUuid(commentBulkCreateReqVo.getMemberUuid())
+                .content(commentBulkCreateReqVo.getContent())
+                .build();
+    }
 }
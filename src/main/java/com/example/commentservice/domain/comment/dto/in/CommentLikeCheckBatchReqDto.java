@@ -0,0 +1,28 @@
+package com.example.commentservice.domain.comment.dto.in;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CommentLikeCheckBatchReqDto {
+
+    private String memberUuid;
+    private List<String> commentUuids;
+
+    @Builder
+    public CommentLikeCheckBatchReqDto(String memberUuid, List<String> commentUuids) {
+        this.memberUuid = memberUuid;
+        this.commentUuids = commentUuids;
+    }
+
+    public static CommentLikeCheckBatchReqDto of(String memberUuid, List<String> commentUuids) {
+        return CommentLikeCheckBatchReqDto.builder()
+                .memberUuid(memberUuid)
+                .commentUuids(commentUuids)
+                .build();
+    }
+}
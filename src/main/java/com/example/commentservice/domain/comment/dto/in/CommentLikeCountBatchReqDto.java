@@ -0,0 +1,25 @@
+package com.example.commentservice.domain.comment.dto.in;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CommentLikeCountBatchReqDto {
+
+    private List<String> commentUuids;
+
+    @Builder
+    public CommentLikeCountBatchReqDto(List<String> commentUuids) {
+        this.commentUuids = commentUuids;
+    }
+
+    public static CommentLikeCountBatchReqDto from(List<String> commentUuids) {
+        return CommentLikeCountBatchReqDto.builder()
+                .commentUuids(commentUuids)
+                .build();
+    }
+}
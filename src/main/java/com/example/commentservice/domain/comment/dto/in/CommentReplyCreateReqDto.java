@@ -0,0 +1,56 @@
+package com.example.commentservice.domain.comment.dto.in;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.vo.in.CommentCreateReqVo;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class CommentReplyCreateReqDto {
+
+    private String parentCommentUuid;
+    private String memberUuid;
+    private String content;
+
+    @Builder
+    public CommentReplyCreateReqDto(
+            String parentCommentUuid,
+            String memberUuid,
+            String content
+    ) {
+        this.parentCommentUuid = parentCommentUuid;
+        this.memberUuid = memberUuid;
+        this.content = content;
+    }
+
+    /**
+     * 답글은 부모 댓글과 같은 게시글에 속하고, 부모가 속한 스레드의 최상위 댓글을 root 로 가진다.
+     */
+    public Comment toEntity(Comment parent) {
+        return Comment.builder()
+                .commentUuid(UUID.randomUUID().toString())
+                .postUuid(parent.getPostUuid())
+                .memberUuid(this.memberUuid)
+                .content(this.content)
+                .blind_status(false)
+                .deleted_status(false)
+                .deleted_at(null)
+                .parentCommentUuid(parent.getCommentUuid())
+                .rootCommentUuid(parent.threadRootUuid())
+                .build();
+    }
+
+    public static CommentReplyCreateReqDto of(
+            String parentCommentUuid,
+            String memberUuid,
+            CommentCreateReqVo commentCreateReqVo
+    ) {
+        return CommentReplyCreateReqDto.builder()
+                .parentCommentUuid(parentCommentUuid)
+                .memberUuid(memberUuid)
+                .content(commentCreateReqVo.getContent())
+                .build();
+    }
+}
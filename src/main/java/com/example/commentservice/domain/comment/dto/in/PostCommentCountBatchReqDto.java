@@ -0,0 +1,25 @@
+package com.example.commentservice.domain.comment.dto.in;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostCommentCountBatchReqDto {
+
+    private List<String> postUuids;
+
+    @Builder
+    public PostCommentCountBatchReqDto(List<String> postUuids) {
+        this.postUuids = postUuids;
+    }
+
+    public static PostCommentCountBatchReqDto from(List<String> postUuids) {
+        return PostCommentCountBatchReqDto.builder()
+                .postUuids(postUuids)
+                .build();
+    }
+}
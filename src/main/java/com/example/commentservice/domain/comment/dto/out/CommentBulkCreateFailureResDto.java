@@ -0,0 +1,34 @@
+package com.example.commentservice.domain.comment.dto.out;
+
+import com.example.commentservice.common.response.BaseResponseStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CommentBulkCreateFailureResDto {
+
+    private long index;
+    private int code;
+    private String message;
+
+    @Builder
+    public CommentBulkCreateFailureResDto(long index, int code, String message) {
+        this.index = index;
+        this.code = code;
+        this.message = message;
+    }
+
+    public static CommentBulkCreateFailureResDto of(long index, BaseResponseStatus status) {
+        return of(index, status, status.getMessage());
+    }
+
+    public static CommentBulkCreateFailureResDto of(long index, BaseResponseStatus status, String message) {
+        return CommentBulkCreateFailureResDto.builder()
+                .index(index)
+                .code(status.getCode())
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.commentservice.domain.comment.dto.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CommentBulkCreateResDto {
+
+    private long total;
+    private long succeeded;
+    private long failed;
+    private boolean truncated;
+    private List<CommentBulkCreateFailureResDto> failures;
+
+    @Builder
+    public CommentBulkCreateResDto(
+            long total, long succeeded, long failed, boolean truncated, List<CommentBulkCreateFailureResDto> failures) {
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.truncated = truncated;
+        this.failures = failures;
+    }
+}
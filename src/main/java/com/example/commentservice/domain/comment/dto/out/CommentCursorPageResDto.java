@@ -0,0 +1,23 @@
+package com.example.commentservice.domain.comment.dto.out;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentCursorPageResDto {
+
+    private List<CommentResDto> comments;
+    private String nextCursor;
+    private long size;
+    private boolean hasNext;
+
+    @Builder
+    public CommentCursorPageResDto(List<CommentResDto> comments, String nextCursor, long size, boolean hasNext) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+}
@@ -25,4 +25,8 @@ public class CommentListPageResDto {
         this.totalPages = totalPages;
         this.totalElements = totalElements;
     }
+
+    public CommentListPageResDto withComments(List<CommentResDto> comments) {
+        return new CommentListPageResDto(comments, page, size, hasNext, totalPages, totalElements);
+    }
 }
@@ -1,11 +1,13 @@
 package com.example.commentservice.domain.comment.dto.out;
 
 import com.example.commentservice.domain.comment.entity.Comment;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 
 @Getter
@@ -18,13 +20,25 @@ public class CommentResDto {
     private String content;
     private boolean blind_status;
     private boolean deleted_status;
+    private long likeCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String parentCommentUuid;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String rootCommentUuid;
+    private long replyCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CommentResDto> replies;
 
     @Builder
     public CommentResDto(
             String commentUuid, String postUuid, String memberUuid, String content, boolean blind_status,
-            boolean deleted_status, LocalDateTime createdAt, LocalDateTime updatedAt
+            boolean deleted_status, long likeCount, String parentCommentUuid, String rootCommentUuid,
+            long replyCount, LocalDateTime createdAt, LocalDateTime updatedAt, Boolean likedByMe,
+            List<CommentResDto> replies
     ) {
         this.commentUuid = commentUuid;
         this.postUuid = postUuid;
@@ -32,8 +46,14 @@ public class CommentResDto {
         this.content = content;
         this.blind_status = blind_status;
         this.deleted_status = deleted_status;
+        this.likeCount = likeCount;
+        this.parentCommentUuid = parentCommentUuid;
+        this.rootCommentUuid = rootCommentUuid;
+        this.replyCount = replyCount;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.likedByMe = likedByMe;
+        this.replies = replies;
     }
 
 
@@ -45,8 +65,32 @@ public class CommentResDto {
                 .content(comment.getContent())
                 .blind_status(comment.isBlind_status())
                 .deleted_status(comment.isDeleted_status())
+                .likeCount(comment.getLikeCount())
+                .parentCommentUuid(comment.getParentCommentUuid())
+                .rootCommentUuid(comment.getRootCommentUuid())
+                .replyCount(comment.getReplyCount())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 조회한 회원의 좋아요 여부를 채운 사본을 반환한다. 회원 정보가 없으면 likedByMe 는 응답에서 생략된다.
+     */
+    public CommentResDto withLikedByMe(boolean likedByMe) {
+        return new CommentResDto(
+                commentUuid, postUuid, memberUuid, content, blind_status, deleted_status, likeCount,
+                parentCommentUuid, rootCommentUuid, replyCount, createdAt, updatedAt, likedByMe, replies
+        );
+    }
+
+    /**
+     * 최상위 댓글에 미리보기 답글 목록을 채운 사본을 반환한다.
+     */
+    public CommentResDto withReplies(List<CommentResDto> replies) {
+        return new CommentResDto(
+                commentUuid, postUuid, memberUuid, content, blind_status, deleted_status, likeCount,
+                parentCommentUuid, rootCommentUuid, replyCount, createdAt, updatedAt, likedByMe, replies
+        );
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.commentservice.domain.comment.dto.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class HotPostResDto {
+
+    private String postUuid;
+    private long estimatedHits;
+    private int pinnedPages;
+
+    @Builder
+    public HotPostResDto(String postUuid, long estimatedHits, int pinnedPages) {
+        this.postUuid = postUuid;
+        this.estimatedHits = estimatedHits;
+        this.pinnedPages = pinnedPages;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.commentservice.domain.comment.dto.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostCommentCountResDto {
+
+    private String postUuid;
+    private long commentCount;
+
+    @Builder
+    public PostCommentCountResDto(String postUuid, long commentCount) {
+        this.postUuid = postUuid;
+        this.commentCount = commentCount;
+    }
+
+    public static PostCommentCountResDto of(String postUuid, long commentCount) {
+        return PostCommentCountResDto.builder()
+                .postUuid(postUuid)
+                .commentCount(Math.max(0, commentCount))
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.commentservice.domain.comment.dto.out;
+
+import com.example.commentservice.domain.comment.entity.PostCommentCount;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+@NoArgsConstructor
+public class PostCommentVersionResDto {
+
+    private String postUuid;
+    private long version;
+    private LocalDateTime lastModifiedAt;
+
+    @Builder
+    public PostCommentVersionResDto(String postUuid, long version, LocalDateTime lastModifiedAt) {
+        this.postUuid = postUuid;
+        this.version = version;
+        this.lastModifiedAt = lastModifiedAt;
+    }
+
+    public static PostCommentVersionResDto from(PostCommentCount postCommentCount) {
+        return PostCommentVersionResDto.builder()
+                .postUuid(postCommentCount.getPostUuid())
+                .version(postCommentCount.getVersion())
+                .lastModifiedAt(postCommentCount.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 마지막 변경 시각(epoch millis). 알 수 없으면 -1.
+     */
+    public long lastModifiedMillis() {
+        return lastModifiedAt == null ? -1 : lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 
 @Document("comment")
@@ -25,6 +27,19 @@ public class Comment extends BaseDocument {
     private boolean blind_status;
     private boolean deleted_status;
     private LocalDateTime deleted_at;
+    private long likeCount;
+
+    // 답글이면 바로 위 댓글(parent)과 스레드의 최상위 댓글(root)을 가리킨다. 최상위 댓글은 둘 다 없다.
+    private String parentCommentUuid;
+    private String rootCommentUuid;
+    // 최상위 댓글에만 유지되는 스레드 전체 답글 수. 답글 등록 / 삭제 시 $inc 로 함께 갱신한다.
+    private long replyCount;
+
+    // 댓글 변경과 같은 문서 쓰기로 기록되는 outbox. 전송된 이벤트는 relay 가 제거한다.
+    private List<CommentOutboxEvent> outbox;
+    private LocalDateTime outboxPendingAt;
+    private LocalDateTime outboxLeaseUntil;
+    private String outboxClaimToken;
 
 
     @Builder
@@ -35,7 +50,9 @@ public class Comment extends BaseDocument {
             String content,
             boolean blind_status,
             boolean deleted_status,
-            LocalDateTime deleted_at
+            LocalDateTime deleted_at,
+            String parentCommentUuid,
+            String rootCommentUuid
     ) {
         this.commentUuid = commentUuid;
         this.postUuid = postUuid;
@@ -44,6 +61,19 @@ public class Comment extends BaseDocument {
         this.blind_status = blind_status;
         this.deleted_status = deleted_status;
         this.deleted_at = deleted_at;
+        this.parentCommentUuid = parentCommentUuid;
+        this.rootCommentUuid = rootCommentUuid;
+    }
+
+    public boolean isReply() {
+        return this.rootCommentUuid != null;
+    }
+
+    /**
+     * 이 댓글에 답글을 달 때 답글이 속할 스레드의 최상위 댓글 UUID.
+     */
+    public String threadRootUuid() {
+        return isReply() ? this.rootCommentUuid : this.commentUuid;
     }
 
     public void updateContent(String content) {
@@ -54,4 +84,14 @@ public class Comment extends BaseDocument {
         this.deleted_status = true;
         this.deleted_at = LocalDateTime.now();
     }
+
+    public void addOutboxEvent(CommentOutboxEvent event) {
+        if (this.outbox == null) {
+            this.outbox = new ArrayList<>();
+        }
+        this.outbox.add(event);
+        if (this.outboxPendingAt == null) {
+            this.outboxPendingAt = event.getOccurredAt();
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package com.example.commentservice.domain.comment.entity;
+
+import com.example.commentservice.common.exception.BaseException;
+import com.example.commentservice.common.response.BaseResponseStatus;
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서 - (정렬 타입, 정렬 값, commentUuid) 를 불투명한 문자열로 인코딩한다.
+ */
+@Getter
+public class CommentCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final CommentSortType commentSortType;
+    private final Object sortValue;
+    private final String commentUuid;
+
+    private CommentCursor(CommentSortType commentSortType, Object sortValue, String commentUuid) {
+        this.commentSortType = commentSortType;
+        this.sortValue = sortValue;
+        this.commentUuid = commentUuid;
+    }
+
+    public static CommentCursor of(CommentSortType commentSortType, Comment comment) {
+        return new CommentCursor(commentSortType, sortValueOf(commentSortType, comment), comment.getCommentUuid());
+    }
+
+    public static CommentCursor of(CommentSortType commentSortType, CommentResDto comment) {
+        Object sortValue = switch (commentSortType) {
+            case RECENT -> comment.getCreatedAt();
+            case LIKE -> comment.getLikeCount();
+        };
+        return new CommentCursor(commentSortType, sortValue, comment.getCommentUuid());
+    }
+
+    public String encode() {
+        String raw = commentSortType.name() + DELIMITER + sortValue + DELIMITER + commentUuid;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 비어 있으면 첫 페이지를 의미하므로 null 을 반환한다.
+     */
+    public static CommentCursor decode(String cursor, CommentSortType commentSortType) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 3 || !commentSortType.name().equals(parts[0]) || parts[2].isBlank()) {
+                throw new BaseException(BaseResponseStatus.INVALID_COMMENT_CURSOR);
+            }
+            return new CommentCursor(commentSortType, parseSortValue(commentSortType, parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_COMMENT_CURSOR);
+        }
+    }
+
+    private static Object sortValueOf(CommentSortType commentSortType, Comment comment) {
+        return switch (commentSortType) {
+            case RECENT -> comment.getCreatedAt();
+            case LIKE -> comment.getLikeCount();
+        };
+    }
+
+    private static Object parseSortValue(CommentSortType commentSortType, String sortValue) {
+        return switch (commentSortType) {
+            case RECENT -> LocalDateTime.parse(sortValue);
+            case LIKE -> Long.parseLong(sortValue);
+        };
+    }
+}
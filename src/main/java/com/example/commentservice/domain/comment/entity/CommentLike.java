@@ -5,7 +5,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document("comment_like")
@@ -15,7 +14,6 @@ public class CommentLike {
 
     @Id
     private String id;
-    @Indexed
     private String commentUuid;
     private String memberUuid;
 
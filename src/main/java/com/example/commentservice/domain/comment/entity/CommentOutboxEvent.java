@@ -0,0 +1,36 @@
+package com.example.commentservice.domain.comment.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 댓글 문서에 함께 저장되는 아직 Kafka 로 전송되지 않은 이벤트.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentOutboxEvent {
+
+    private String eventId;
+    private CommentOutboxEventType type;
+    private LocalDateTime occurredAt;
+
+    @Builder
+    public CommentOutboxEvent(String eventId, CommentOutboxEventType type, LocalDateTime occurredAt) {
+        this.eventId = eventId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+    }
+
+    public static CommentOutboxEvent of(CommentOutboxEventType type) {
+        return CommentOutboxEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .type(type)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -6,13 +6,26 @@ public enum CommentSortType {
     LIKE("likeCount"),
     RECENT("createdAt");
 
+    private static final String CURSOR_TIE_BREAKER = "commentUuid";
+
     private final String sortField;
 
     CommentSortType(String sortField) {
         this.sortField = sortField;
     }
 
+    public String getSortField() {
+        return this.sortField;
+    }
+
     public Sort getSort() {
         return Sort.by(Sort.Direction.DESC, this.sortField);
     }
+
+    /**
+     * 커서 페이징용 정렬 - 정렬 값이 같은 댓글은 commentUuid 로 순서를 고정한다.
+     */
+    public Sort getCursorSort() {
+        return Sort.by(Sort.Direction.DESC, this.sortField, CURSOR_TIE_BREAKER);
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.commentservice.domain.comment.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 삭제에 따른 댓글 일괄 삭제 진행 상황(checkpoint).
+ * RUNNING 상태로 남아 있으면 재시작 후 이어서 처리한다.
+ * 처리 중인 인스턴스는 owner / leaseUntil 로 표시되며, lease 가 만료되기 전에는 다른 인스턴스가 선점하지 않는다.
+ */
+@Document("post_comment_cascade")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCommentCascade {
+
+    @Id
+    private String postUuid;
+    private PostCommentCascadeStatus status;
+    private long deletedCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+    private String owner;
+    private LocalDateTime leaseUntil;
+
+    @Builder
+    public PostCommentCascade(String postUuid, PostCommentCascadeStatus status, LocalDateTime startedAt) {
+        this.postUuid = postUuid;
+        this.status = status;
+        this.startedAt = startedAt;
+        this.updatedAt = startedAt;
+    }
+}
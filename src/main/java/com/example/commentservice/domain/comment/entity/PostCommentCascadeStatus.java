@@ -0,0 +1,6 @@
+package com.example.commentservice.domain.comment.entity;
+
+public enum PostCommentCascadeStatus {
+    RUNNING,
+    COMPLETED
+}
@@ -0,0 +1,54 @@
+package com.example.commentservice.domain.comment.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 댓글 수. 댓글 등록 / 삭제 시 $inc 로 함께 갱신하고, 어긋나면 rebuild 로 comment 컬렉션에서 다시 계산한다.
+ * commentCount 는 답글을 포함한 전체 수, rootCommentCount 는 목록 페이징에 쓰는 최상위 댓글 수다.
+ * seeded 는 comment 컬렉션 집계값으로 한 번 채워졌는지 여부이며, false 인 문서의 수는 증감분뿐이므로 조회에 쓰지 않는다.
+ * countVersion 은 수가 바뀔 때마다 올라가며, 집계하는 동안 증감이 있었는지 확인하는 데 쓴다.
+ * pendingWrites 는 댓글을 쓰기 시작했지만 아직 $inc 를 반영하지 않은 쓰기 수이며, 0 보다 크면 집계값으로 덮어쓰지 않는다.
+ * version 은 게시글 댓글 목록이 바뀔 때마다(등록 / 수정 / 삭제 / 좋아요) 올라가며 목록 ETag 로 쓰인다.
+ */
+@Document("post_comment_count")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCommentCount {
+
+    @Id
+    private String postUuid;
+    private long commentCount;
+    private long rootCommentCount;
+    private long version;
+    private long countVersion;
+    private long pendingWrites;
+    private boolean seeded;
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public PostCommentCount(
+            String postUuid, long commentCount, long rootCommentCount, long countVersion, boolean seeded,
+            LocalDateTime updatedAt
+    ) {
+        this.postUuid = postUuid;
+        this.commentCount = commentCount;
+        this.rootCommentCount = rootCommentCount;
+        this.countVersion = countVersion;
+        this.seeded = seeded;
+        this.updatedAt = updatedAt;
+    }
+
+    public static PostCommentCount empty(String postUuid) {
+        return PostCommentCount.builder()
+                .postUuid(postUuid)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.commentservice.domain.comment.event;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+
+/**
+ * 게시글의 댓글 목록에 영향을 주는 변경이 일어났음을 애플리케이션 내부에 알리는 이벤트.
+ * 목록 캐시 등은 postUuid 기준으로 이 이벤트를 받아 무효화한다.
+ */
+public record CommentChangedEvent(String postUuid, String commentUuid, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        LIKE_CHANGED
+    }
+
+    public static CommentChangedEvent of(Type type, Comment comment) {
+        return new CommentChangedEvent(comment.getPostUuid(), comment.getCommentUuid(), type);
+    }
+}
@@ -1,13 +1,68 @@
 package com.example.commentservice.domain.comment.infrastructure;
 
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
 import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.CommentCursor;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 public interface CommentCustomRepository {
     Page<Comment> findCommentByPostUuid(String postUuid, Pageable pageable);
 
+    List<Comment> findCommentByPostUuidAfter(
+            String postUuid, CommentCursor commentCursor, CommentSortType commentSortType, int limit);
+
     Optional<Comment> findNotDeletedByCommentUuid(String commentUuid);
+
+    Map<String, List<CommentResDto>> findReplyViewsByRootCommentUuids(Collection<String> rootCommentUuids, int limit);
+
+    List<CommentResDto> findReplyViewsAfter(String rootCommentUuid, CommentCursor commentCursor, int limit);
+
+    Optional<Comment> incrementReplyCount(String rootCommentUuid, long delta);
+
+    List<CommentResDto> findCommentViewsByPostUuid(String postUuid, Pageable pageable);
+
+    List<CommentResDto> findCommentViewsByPostUuidAfter(
+            String postUuid, CommentCursor commentCursor, CommentSortType commentSortType, int limit);
+
+    Optional<CommentResDto> findCommentViewByCommentUuid(String commentUuid);
+
+    Optional<Comment> updateContent(String commentUuid, String memberUuid, String content);
+
+    Optional<Comment> softDelete(String commentUuid, String memberUuid);
+
+    Optional<Comment> incrementLikeCount(String commentUuid, long delta);
+
+    void incrementLikeCounts(Collection<Map.Entry<String, Long>> deltas);
+
+    Optional<Comment> findLikeCountByCommentUuid(String commentUuid);
+
+    Map<String, Long> findLikeCountsByCommentUuids(Collection<String> commentUuids);
+
+    Set<String> findPostUuidsByCommentUuids(Collection<String> commentUuids);
+
+    long reconcileLikeCounts(int chunkSize, Predicate<String> skip);
+
+    Map<Integer, String> insertAllUnordered(List<Comment> comments);
+
+    List<Comment> findNotDeletedIdsByPostUuid(String postUuid, int limit);
+
+    long softDeleteByIds(Collection<String> ids);
+
+    List<Comment> claimPendingOutbox(String claimToken, LocalDateTime leaseUntil, int limit);
+
+    void completeOutbox(String claimToken, Map<String, List<String>> sentEventIds);
+
+    long countPendingOutbox();
+
+    Optional<LocalDateTime> findOldestPendingOutboxAt();
 }
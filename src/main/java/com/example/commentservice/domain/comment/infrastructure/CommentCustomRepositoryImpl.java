@@ -1,38 +1,546 @@
 package com.example.commentservice.domain.comment.infrastructure;
 
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
 import com.example.commentservice.domain.comment.entity.Comment;
-import lombok.RequiredArgsConstructor;
+import com.example.commentservice.domain.comment.entity.CommentCursor;
+import com.example.commentservice.domain.comment.entity.CommentOutboxEvent;
+import com.example.commentservice.domain.comment.entity.CommentOutboxEventType;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 @Repository
-@RequiredArgsConstructor
 public class CommentCustomRepositoryImpl implements CommentCustomRepository {
 
+    private static final Sort REPLY_SORT = Sort.by(Sort.Direction.ASC, "rootCommentUuid", "createdAt", "commentUuid");
+
     private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+    private final MongoPersistentEntity<?> commentEntity;
+
+    public CommentCustomRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        this.commentEntity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(Comment.class);
+    }
 
     @Override
     public Page<Comment> findCommentByPostUuid(String postUuid, Pageable pageable) {
-        Query baseQuery = new Query(Criteria.where("postUuid").is(postUuid)
-                .and("deleted_status").is(false));
+        Query baseQuery = postCommentsQuery(postUuid);
 
         long total = mongoTemplate.count(baseQuery, Comment.class);
         List<Comment> comments = mongoTemplate.find(baseQuery.with(pageable), Comment.class);
         return new PageImpl<>(comments, pageable, total);
     }
 
+    /**
+     * 커서 이후의 댓글을 skip / count 없이 인덱스 범위 탐색으로 조회한다.
+     * 정렬 값은 범위 조건(lte)으로, 같은 정렬 값 안에서는 commentUuid 로 커서 위치를 이어간다.
+     */
+    @Override
+    public List<Comment> findCommentByPostUuidAfter(
+            String postUuid, CommentCursor commentCursor, CommentSortType commentSortType, int limit) {
+        return mongoTemplate.find(postCommentsAfterQuery(postUuid, commentCursor, commentSortType, limit), Comment.class);
+    }
+
+    /**
+     * 여러 최상위 댓글의 앞쪽 답글을 aggregate 한 번으로 가져온다.
+     * (rootCommentUuid, created_at, commentUuid) 인덱스 순서대로 읽어 스레드별로 $firstN 만큼만 모은다.
+     */
+    @Override
+    public Map<String, List<CommentResDto>> findReplyViewsByRootCommentUuids(
+            Collection<String> rootCommentUuids, int limit) {
+        if (rootCommentUuids.isEmpty() || limit <= 0) {
+            return Map.of();
+        }
+        Query query = threadRepliesQuery(rootCommentUuids);
+        List<Document> pipeline = List.of(
+                new Document("$match", mappedFilter(query)),
+                new Document("$sort", queryMapper.getMappedSort(query.getSortObject(), commentEntity)),
+                new Document("$project", CommentViewMapper.PROJECTION),
+                new Document("$group", new Document("_id", "$rootCommentUuid")
+                        .append("replies", new Document("$firstN",
+                                new Document("input", "$$ROOT").append("n", limit))))
+        );
+
+        return mongoTemplate.execute("comment", collection -> {
+            Map<String, List<CommentResDto>> replies = new HashMap<>();
+            for (Document thread : collection.aggregate(pipeline)) {
+                List<Document> documents = thread.getList("replies", Document.class);
+                List<CommentResDto> threadReplies = new ArrayList<>(documents.size());
+                documents.forEach(document -> threadReplies.add(CommentViewMapper.toCommentResDto(document)));
+                replies.put(thread.getString("_id"), threadReplies);
+            }
+            return replies;
+        });
+    }
+
+    @Override
+    public List<CommentResDto> findReplyViewsAfter(String rootCommentUuid, CommentCursor commentCursor, int limit) {
+        return findCommentViews(repliesAfterQuery(rootCommentUuid, commentCursor, limit));
+    }
+
+    /**
+     * 스레드의 답글 수를 $inc 로 원자적으로 변경한다. 증가는 삭제되지 않은 최상위 댓글에만 반영하고,
+     * 감소는 0 아래로 내려가지 않도록 현재 값이 감소량 이상인 경우에만 반영한다.
+     */
+    @Override
+    public Optional<Comment> incrementReplyCount(String rootCommentUuid, long delta) {
+        Criteria criteria = Criteria.where("commentUuid").is(rootCommentUuid)
+                .and("rootCommentUuid").is(null);
+        if (delta > 0) {
+            criteria = criteria.and("deleted_status").is(false);
+        } else {
+            criteria = criteria.and("replyCount").gte(-delta);
+        }
+        Query query = new Query(criteria);
+        query.fields().include("commentUuid", "postUuid", "replyCount");
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query,
+                new Update().inc("replyCount", delta),
+                FindAndModifyOptions.options().returnNew(true),
+                Comment.class
+        ));
+    }
+
     @Override
     public Optional<Comment> findNotDeletedByCommentUuid(String commentUuid) {
-        Query query = new Query(Criteria.where("commentUuid").is(commentUuid)
-                .and("deleted_status").is(false));
+        return Optional.ofNullable(mongoTemplate.findOne(notDeletedByCommentUuidQuery(commentUuid), Comment.class));
+    }
+
+    /**
+     * 목록 조회용 경량 경로. 같은 조건의 쿼리를 응답 필드 projection 과 함께 드라이버로 직접 실행하고
+     * 결과 Document 를 CommentResDto 로 바로 옮긴다. 전체 개수는 post_comment_count 에서 읽는다.
+     */
+    @Override
+    public List<CommentResDto> findCommentViewsByPostUuid(String postUuid, Pageable pageable) {
+        return findCommentViews(postCommentsQuery(postUuid).with(pageable));
+    }
+
+    @Override
+    public List<CommentResDto> findCommentViewsByPostUuidAfter(
+            String postUuid, CommentCursor commentCursor, CommentSortType commentSortType, int limit) {
+        return findCommentViews(postCommentsAfterQuery(postUuid, commentCursor, commentSortType, limit));
+    }
+
+    @Override
+    public Optional<CommentResDto> findCommentViewByCommentUuid(String commentUuid) {
+        List<CommentResDto> comments = findCommentViews(notDeletedByCommentUuidQuery(commentUuid).limit(1));
+        return comments.isEmpty() ? Optional.empty() : Optional.of(comments.get(0));
+    }
+
+    /**
+     * 작성자 본인의 삭제되지 않은 댓글만 수정하고, 수정된 댓글을 반환한다.
+     * 조건에 맞는 댓글이 없으면 (없음 / 삭제됨 / 작성자 아님) 비어 있는 값을 반환한다.
+     */
+    @Override
+    public Optional<Comment> updateContent(String commentUuid, String memberUuid, String content) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                ownedNotDeletedQuery(commentUuid, memberUuid),
+                new Update().set("content", content).set("updatedAt", LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true),
+                Comment.class
+        ));
+    }
+
+    @Override
+    public Optional<Comment> softDelete(String commentUuid, String memberUuid) {
+        LocalDateTime now = LocalDateTime.now();
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                ownedNotDeletedQuery(commentUuid, memberUuid),
+                new Update().set("deleted_status", true).set("deleted_at", now).set("updatedAt", now)
+                        .push("outbox", CommentOutboxEvent.of(CommentOutboxEventType.DELETED))
+                        .min("outboxPendingAt", now),
+                FindAndModifyOptions.options().returnNew(true),
+                Comment.class
+        ));
+    }
+
+    /**
+     * likeCount 를 $inc 로 원자적으로 변경하고, 변경된 댓글의 commentUuid / postUuid / likeCount 를 반환한다.
+     * 감소 시에는 음수가 되지 않도록 현재 값이 감소량 이상인 경우에만 반영한다.
+     */
+    @Override
+    public Optional<Comment> incrementLikeCount(String commentUuid, long delta) {
+        Criteria criteria = Criteria.where("commentUuid").is(commentUuid)
+                .and("deleted_status").is(false);
+        if (delta < 0) {
+            criteria = criteria.and("likeCount").gte(-delta);
+        }
+        Query query = new Query(criteria);
+        query.fields().include("commentUuid", "postUuid", "likeCount");
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query,
+                new Update().inc("likeCount", delta),
+                FindAndModifyOptions.options().returnNew(true),
+                Comment.class
+        ));
+    }
+
+    /**
+     * write-behind 로 모인 댓글별 증감을 unordered bulk 한 번으로 반영한다.
+     * 감소분은 단건 경로처럼 음수가 되지 않도록 likeCount = max(0, likeCount + delta) 로 계산한다.
+     */
+    @Override
+    public void incrementLikeCounts(Collection<Map.Entry<String, Long>> deltas) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Comment.class);
+        deltas.forEach(delta -> {
+            UpdateDefinition update = delta.getValue() >= 0
+                    ? new Update().inc("likeCount", delta.getValue())
+                    : clampedLikeCountUpdate(delta.getValue());
+            bulkOps.updateOne(new Query(Criteria.where("commentUuid").is(delta.getKey())), update);
+        });
+        bulkOps.execute();
+    }
+
+    private static UpdateDefinition clampedLikeCountUpdate(long delta) {
+        AggregationOperation set = context -> new Document("$set", new Document("likeCount",
+                new Document("$max", List.of(0L, new Document("$add", List.of("$likeCount", delta))))));
+        return AggregationUpdate.from(List.of(set));
+    }
+
+    @Override
+    public Optional<Comment> findLikeCountByCommentUuid(String commentUuid) {
+        Query query = notDeletedByCommentUuidQuery(commentUuid);
+        query.fields().include("commentUuid", "postUuid", "likeCount");
         return Optional.ofNullable(mongoTemplate.findOne(query, Comment.class));
     }
+
+    /**
+     * 댓글들이 속한 게시글 UUID 를 commentUuid $in 조회 한 번으로 가져온다. (중복 제거)
+     */
+    @Override
+    public Set<String> findPostUuidsByCommentUuids(Collection<String> commentUuids) {
+        Query query = new Query(Criteria.where("commentUuid").in(commentUuids));
+        query.fields().include("postUuid");
+        Set<String> postUuids = new HashSet<>();
+        mongoTemplate.find(query, Comment.class).forEach(comment -> postUuids.add(comment.getPostUuid()));
+        return postUuids;
+    }
+
+    /**
+     * 여러 댓글의 likeCount 를 commentUuid $in 조회 한 번으로 가져온다. 존재하지 않는 댓글은 결과에 없다.
+     */
+    @Override
+    public Map<String, Long> findLikeCountsByCommentUuids(Collection<String> commentUuids) {
+        Query query = new Query(Criteria.where("commentUuid").in(commentUuids)
+                .and("deleted_status").is(false));
+        query.fields().include("commentUuid", "likeCount");
+
+        Map<String, Long> likeCounts = new HashMap<>();
+        mongoTemplate.find(query, Comment.class)
+                .forEach(comment -> likeCounts.put(comment.getCommentUuid(), comment.getLikeCount()));
+        return likeCounts;
+    }
+
+    /**
+     * comment.likeCount 를 comment_like 집계값과 비교해 다른 값만 보정한다.
+     * comment 를 _id 순으로 chunk-size 단위씩 끊어 읽고, chunk 마다 그 댓글들의 comment_like 만 $in 으로 집계한 뒤 바로 갱신한다.
+     * 커서를 열어 둔 채 갱신하지 않으므로 chunk 를 읽는 동안만 bulkhead 허용량을 차지한다.
+     * 갱신 조건에 읽었던 likeCount 를 걸어, 읽은 뒤 반영된 좋아요는 덮어쓰지 않는다.
+     * skip 이 true 인 댓글(아직 반영되지 않은 증감이 있는 댓글)은 보정하지 않는다.
+     */
+    @Override
+    public long reconcileLikeCounts(int chunkSize, Predicate<String> skip) {
+        long reconciled = 0;
+        Object lastId = null;
+        while (true) {
+            Document filter = lastId == null ? new Document() : new Document("_id", new Document("$gt", lastId));
+            List<Document> chunk = mongoTemplate.execute("comment", collection -> collection.find(filter)
+                    .projection(new Document("commentUuid", 1).append("likeCount", 1))
+                    .sort(new Document("_id", 1))
+                    .limit(chunkSize)
+                    .into(new ArrayList<>(chunkSize)));
+            if (chunk.isEmpty()) {
+                return reconciled;
+            }
+            reconciled += reconcileLikeCountChunk(chunk, skip);
+            if (chunk.size() < chunkSize) {
+                return reconciled;
+            }
+            lastId = chunk.get(chunk.size() - 1).get("_id");
+        }
+    }
+
+    private long reconcileLikeCountChunk(List<Document> comments, Predicate<String> skip) {
+        List<String> commentUuids = comments.stream().map(comment -> comment.getString("commentUuid")).toList();
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("commentUuid", new Document("$in", commentUuids))),
+                new Document("$group", new Document("_id", "$commentUuid")
+                        .append("likeCount", new Document("$sum", 1)))
+        );
+        Map<String, Long> actualCounts = mongoTemplate.execute("comment_like", collection -> {
+            Map<String, Long> counts = new HashMap<>();
+            for (Document count : collection.aggregate(pipeline)) {
+                counts.put(count.getString("_id"), ((Number) count.get("likeCount")).longValue());
+            }
+            return counts;
+        });
+
+        BulkOperations bulkOps = null;
+        for (Document comment : comments) {
+            String commentUuid = comment.getString("commentUuid");
+            long expected = actualCounts.getOrDefault(commentUuid, 0L);
+            Object stored = comment.get("likeCount");
+            if ((stored instanceof Number number && number.longValue() == expected) || skip.test(commentUuid)) {
+                continue;
+            }
+            if (bulkOps == null) {
+                bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Comment.class);
+            }
+            bulkOps.updateOne(
+                    new Query(Criteria.where("_id").is(comment.get("_id")).and("likeCount").is(stored)),
+                    new Update().set("likeCount", expected)
+            );
+        }
+        return bulkOps == null ? 0 : bulkOps.execute().getModifiedCount();
+    }
+
+    /**
+     * 게시글 목록은 최상위 댓글만 대상으로 한다. rootCommentUuid 가 없는 문서는 인덱스에 null 로 저장되므로
+     * (postUuid, rootCommentUuid) 동등 조건 뒤의 정렬 키를 그대로 사용할 수 있다.
+     */
+    static Query postCommentsQuery(String postUuid) {
+        return new Query(Criteria.where("postUuid").is(postUuid)
+                .and("rootCommentUuid").is(null)
+                .and("deleted_status").is(false));
+    }
+
+    static Query postCommentsAfterQuery(
+            String postUuid, CommentCursor commentCursor, CommentSortType commentSortType, int limit) {
+        Criteria criteria = Criteria.where("postUuid").is(postUuid)
+                .and("rootCommentUuid").is(null)
+                .and("deleted_status").is(false);
+
+        if (commentCursor != null) {
+            String sortField = commentSortType.getSortField();
+            criteria = criteria.and(sortField).lte(commentCursor.getSortValue())
+                    .orOperator(
+                            Criteria.where(sortField).lt(commentCursor.getSortValue()),
+                            Criteria.where("commentUuid").lt(commentCursor.getCommentUuid())
+                    );
+        }
+
+        return new Query(criteria)
+                .with(commentSortType.getCursorSort())
+                .limit(limit);
+    }
+
+    /**
+     * rootCommentUuid $exists 조건은 답글 인덱스의 partial 조건과 맞추기 위해 함께 건다.
+     */
+    static Query threadRepliesQuery(Collection<String> rootCommentUuids) {
+        return new Query(Criteria.where("rootCommentUuid").in(rootCommentUuids).exists(true)
+                .and("deleted_status").is(false))
+                .with(REPLY_SORT);
+    }
+
+    /**
+     * 답글은 오래된 순으로 이어서 읽는다. 같은 작성 시각 안에서는 commentUuid 로 커서 위치를 고정한다.
+     */
+    static Query repliesAfterQuery(String rootCommentUuid, CommentCursor commentCursor, int limit) {
+        Criteria criteria = Criteria.where("rootCommentUuid").in(rootCommentUuid).exists(true)
+                .and("deleted_status").is(false);
+
+        if (commentCursor != null) {
+            criteria = criteria.and("createdAt").gte(commentCursor.getSortValue())
+                    .orOperator(
+                            Criteria.where("createdAt").gt(commentCursor.getSortValue()),
+                            Criteria.where("commentUuid").gt(commentCursor.getCommentUuid())
+                    );
+        }
+
+        return new Query(criteria)
+                .with(REPLY_SORT)
+                .limit(limit);
+    }
+
+    /**
+     * 순서와 무관한(unordered) bulk insert 로 한 번에 저장한다. 일부 문서가 실패해도 나머지는 저장되며,
+     * 실패한 문서의 목록 내 위치와 사유를 반환한다.
+     */
+    @Override
+    public Map<Integer, String> insertAllUnordered(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Comment.class)
+                    .insert(comments)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failures = new HashMap<>();
+            e.getErrors().forEach(error -> failures.put(error.getIndex(), error.getMessage()));
+            return failures;
+        }
+    }
+
+    /**
+     * 게시글의 삭제되지 않은 댓글을 chunk 단위로 가져온다. (postUuid, deleted_status=false) partial 인덱스를 사용한다.
+     */
+    @Override
+    public List<Comment> findNotDeletedIdsByPostUuid(String postUuid, int limit) {
+        // 답글도 함께 지워야 하므로 최상위 조건 없이 postUuid 로만 찾는다. 목록 인덱스의 postUuid prefix 를 사용한다.
+        Query query = new Query(Criteria.where("postUuid").is(postUuid)
+                .and("deleted_status").is(false))
+                .limit(limit);
+        query.fields().include("id", "commentUuid");
+        return mongoTemplate.find(query, Comment.class);
+    }
+
+    /**
+     * 한 chunk 의 댓글을 updateMany 한 번으로 soft delete 하고, 같은 쓰기로 outbox 에 삭제 이벤트를 남긴다.
+     * 이벤트 id 는 문서마다 같아도 relay 가 문서 단위로 제거하므로 문제가 없다.
+     */
+    @Override
+    public long softDeleteByIds(Collection<String> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Comment.class);
+        bulkOps.updateMulti(
+                new Query(Criteria.where("id").in(ids).and("deleted_status").is(false)),
+                new Update().set("deleted_status", true).set("deleted_at", now).set("updatedAt", now)
+                        .push("outbox", CommentOutboxEvent.of(CommentOutboxEventType.DELETED))
+                        .min("outboxPendingAt", now)
+        );
+        return bulkOps.execute().getModifiedCount();
+    }
+
+    /**
+     * 전송 대기 중이고 lease 가 없거나 만료된 댓글을 오래된 순으로 골라 claimToken 으로 선점한 뒤,
+     * 이번 relay 가 선점한 댓글만 다시 읽는다. 다른 인스턴스와 같은 이벤트를 동시에 전송하지 않도록 한다.
+     */
+    @Override
+    public List<Comment> claimPendingOutbox(String claimToken, LocalDateTime leaseUntil, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        Query candidates = claimableOutboxQuery(now)
+                .with(Sort.by(Sort.Direction.ASC, "outboxPendingAt"))
+                .limit(limit);
+        candidates.fields().include("id");
+        List<String> ids = mongoTemplate.find(candidates, Comment.class).stream().map(Comment::getId).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        mongoTemplate.updateMulti(
+                claimableOutboxQuery(now).addCriteria(Criteria.where("id").in(ids)),
+                new Update().set("outboxClaimToken", claimToken).set("outboxLeaseUntil", leaseUntil),
+                Comment.class
+        );
+
+        Query claimed = new Query(Criteria.where("outboxClaimToken").is(claimToken));
+        claimed.fields().include("commentUuid", "postUuid", "memberUuid", "deleted_status", "createdAt", "outbox");
+        return mongoTemplate.find(claimed, Comment.class);
+    }
+
+    /**
+     * 전송된 이벤트만 outbox 에서 제거하고 lease 를 해제한다. outbox 가 비면 대기 표시도 지운다.
+     * 선점 이후 새로 추가된 이벤트는 남아 있으므로 다음 relay 에서 전송된다.
+     */
+    @Override
+    public void completeOutbox(String claimToken, Map<String, List<String>> sentEventIds) {
+        if (sentEventIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Comment.class);
+        sentEventIds.forEach((id, eventIds) -> bulkOps.updateOne(
+                new Query(Criteria.where("id").is(id).and("outboxClaimToken").is(claimToken)),
+                new Update()
+                        .pull("outbox", new Document("eventId", new Document("$in", eventIds)))
+                        .unset("outboxClaimToken")
+                        .unset("outboxLeaseUntil")
+        ));
+        bulkOps.execute();
+
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("id").in(sentEventIds.keySet())
+                        .and("outboxPendingAt").exists(true)
+                        .and("outbox").size(0)),
+                new Update().unset("outboxPendingAt").unset("outbox"),
+                Comment.class
+        );
+    }
+
+    @Override
+    public long countPendingOutbox() {
+        return mongoTemplate.count(new Query(Criteria.where("outboxPendingAt").exists(true)), Comment.class);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestPendingOutboxAt() {
+        Query query = new Query(Criteria.where("outboxPendingAt").exists(true))
+                .with(Sort.by(Sort.Direction.ASC, "outboxPendingAt"));
+        query.fields().include("outboxPendingAt");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Comment.class)).map(Comment::getOutboxPendingAt);
+    }
+
+    /**
+     * 드라이버 커서를 execute 콜백 안에서 끝까지 읽어, 조회하는 동안 bulkhead 허용량을 잡고 있도록 한다.
+     */
+    private List<CommentResDto> findCommentViews(Query query) {
+        Document filter = mappedFilter(query);
+        Document sort = queryMapper.getMappedSort(query.getSortObject(), commentEntity);
+        return mongoTemplate.execute("comment", collection -> {
+            List<CommentResDto> comments = new ArrayList<>(Math.max(query.getLimit(), 0));
+            for (Document document : collection.find(filter)
+                    .projection(CommentViewMapper.PROJECTION)
+                    .sort(sort)
+                    .skip((int) query.getSkip())
+                    .limit(query.getLimit())) {
+                comments.add(CommentViewMapper.toCommentResDto(document));
+            }
+            return comments;
+        });
+    }
+
+    private Document mappedFilter(Query query) {
+        return queryMapper.getMappedObject(query.getQueryObject(), commentEntity);
+    }
+
+    private static Query claimableOutboxQuery(LocalDateTime now) {
+        return new Query(Criteria.where("outboxPendingAt").exists(true).orOperator(
+                Criteria.where("outboxLeaseUntil").exists(false),
+                Criteria.where("outboxLeaseUntil").lt(now)
+        ));
+    }
+
+    private static Query ownedNotDeletedQuery(String commentUuid, String memberUuid) {
+        return new Query(Criteria.where("commentUuid").is(commentUuid)
+                .and("memberUuid").is(memberUuid)
+                .and("deleted_status").is(false));
+    }
+
+    static Query notDeletedByCommentUuidQuery(String commentUuid) {
+        return new Query(Criteria.where("commentUuid").is(commentUuid)
+                .and("deleted_status").is(false));
+    }
 }
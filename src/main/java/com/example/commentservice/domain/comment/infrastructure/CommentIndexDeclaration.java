@@ -0,0 +1,48 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.common.mongo.MongoIndexDeclaration;
+import com.example.commentservice.common.mongo.MongoIndexSpec;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class CommentIndexDeclaration implements MongoIndexDeclaration {
+
+    private static final Document NOT_DELETED = new Document("deleted_status", false);
+    private static final Document NOT_DELETED_REPLY = new Document("deleted_status", false)
+            .append("rootCommentUuid", new Document("$exists", true));
+
+    @Override
+    public String collectionName() {
+        return "comment";
+    }
+
+    /**
+     * 목록 조회는 삭제되지 않은 댓글만 읽으므로 partial 인덱스로 크기를 줄이고,
+     * 정렬 필드와 commentUuid 를 키에 포함해 메모리 정렬 없이 커서 / 페이지 조회가 가능하도록 한다.
+     * 게시글 목록 인덱스는 rootCommentUuid 를 동등 조건 키로 두어 답글을 건너뛰고 최상위 댓글만 읽고,
+     * 답글 인덱스는 답글 문서만 담아 스레드별 작성 순서로 읽는다.
+     */
+    @Override
+    public List<MongoIndexSpec> indexes() {
+        return List.of(
+                MongoIndexSpec.named("uk_comment_uuid")
+                        .asc("commentUuid")
+                        .unique(),
+                MongoIndexSpec.named("ix_comment_post_root_recent")
+                        .asc("postUuid").asc("rootCommentUuid").desc("created_at").desc("commentUuid")
+                        .partial(NOT_DELETED),
+                MongoIndexSpec.named("ix_comment_post_root_like")
+                        .asc("postUuid").asc("rootCommentUuid").desc("likeCount").desc("commentUuid")
+                        .partial(NOT_DELETED),
+                MongoIndexSpec.named("ix_comment_reply_thread")
+                        .asc("rootCommentUuid").asc("created_at").asc("commentUuid")
+                        .partial(NOT_DELETED_REPLY),
+                MongoIndexSpec.named("ix_comment_outbox_pending")
+                        .asc("outboxPendingAt")
+                        .partial(new Document("outboxPendingAt", new Document("$exists", true)))
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface CommentLikeCustomRepository {
+
+    boolean insertIfAbsent(String commentUuid, String memberUuid);
+
+    boolean deleteByCommentUuidAndMemberUuid(String commentUuid, String memberUuid);
+
+    Set<String> findLikedCommentUuids(String memberUuid, Collection<String> commentUuids);
+}
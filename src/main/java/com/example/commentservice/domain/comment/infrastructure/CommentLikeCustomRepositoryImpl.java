@@ -0,0 +1,68 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.CommentLike;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentLikeCustomRepositoryImpl implements CommentLikeCustomRepository {
+
+    static final Document LIKED_COMMENTS_PROJECTION = new Document("commentUuid", 1).append("_id", 0);
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * (commentUuid, memberUuid) unique 인덱스 위에서 upsert 한 번으로 좋아요를 등록한다.
+     * 새로 삽입된 경우에만 true 를 반환하며, 동시 요청으로 인한 중복 키 오류도 이미 존재하는 것으로 본다.
+     */
+    @Override
+    public boolean insertIfAbsent(String commentUuid, String memberUuid) {
+        Query query = new Query(Criteria.where("commentUuid").is(commentUuid)
+                .and("memberUuid").is(memberUuid));
+        try {
+            return mongoTemplate.upsert(query, new Update().setOnInsert("commentUuid", commentUuid), CommentLike.class)
+                    .getUpsertedId() != null;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean deleteByCommentUuidAndMemberUuid(String commentUuid, String memberUuid) {
+        Document filter = new Document("commentUuid", commentUuid).append("memberUuid", memberUuid);
+        return mongoTemplate.execute(CommentLike.class, collection -> collection.deleteOne(filter))
+                .getDeletedCount() > 0;
+    }
+
+    /**
+     * 회원이 좋아요한 댓글만 commentUuid $in 조회 한 번으로 가져온다.
+     * _id 를 제외하고 commentUuid 만 읽으므로 (commentUuid, memberUuid) 인덱스만으로 응답된다(covered query).
+     */
+    @Override
+    public Set<String> findLikedCommentUuids(String memberUuid, Collection<String> commentUuids) {
+        Document filter = likedCommentsFilter(memberUuid, commentUuids);
+        return mongoTemplate.execute(CommentLike.class, collection -> {
+            Set<String> liked = new HashSet<>();
+            collection.find(filter)
+                    .projection(LIKED_COMMENTS_PROJECTION)
+                    .forEach(commentLike -> liked.add(commentLike.getString("commentUuid")));
+            return liked;
+        });
+    }
+
+    static Document likedCommentsFilter(String memberUuid, Collection<String> commentUuids) {
+        return new Document("commentUuid", new Document("$in", commentUuids))
+                .append("memberUuid", memberUuid);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.common.mongo.MongoIndexDeclaration;
+import com.example.commentservice.common.mongo.MongoIndexSpec;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class CommentLikeIndexDeclaration implements MongoIndexDeclaration {
+
+    @Override
+    public String collectionName() {
+        return "comment_like";
+    }
+
+    /**
+     * 회원당 댓글 좋아요는 하나만 존재하도록 (commentUuid, memberUuid) 를 unique 로 묶는다.
+     * commentUuid 단독 조회와 집계도 이 인덱스의 prefix 로 처리된다.
+     */
+    @Override
+    public List<MongoIndexSpec> indexes() {
+        return List.of(
+                MongoIndexSpec.named("uk_comment_like_comment_member")
+                        .asc("commentUuid").asc("memberUuid")
+                        .unique()
+        );
+    }
+}
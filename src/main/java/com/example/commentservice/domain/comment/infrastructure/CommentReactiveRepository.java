@@ -0,0 +1,71 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.CommentCursor;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import com.example.commentservice.domain.comment.entity.PostCommentCount;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * ReactiveMongoTemplate 기반 조회 전용 리포지토리.
+ * 조회 조건은 blocking 리포지토리(CommentCustomRepositoryImpl / CommentLikeCustomRepositoryImpl)와 같은 쿼리를 사용해
+ * 두 경로가 같은 인덱스를 타도록 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentReactiveRepository {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    /**
+     * post_comment_count 카운터를 읽고, 카운터가 아직 채워지지 않은 게시글만 comment 를 센다.
+     */
+    public Mono<Long> countByPostUuid(String postUuid) {
+        return reactiveMongoTemplate.findById(postUuid, PostCommentCount.class)
+                .filter(PostCommentCount::isSeeded)
+                .map(count -> Math.max(0, count.getRootCommentCount()))
+                .switchIfEmpty(Mono.defer(() -> reactiveMongoTemplate.count(
+                        CommentCustomRepositoryImpl.postCommentsQuery(postUuid), Comment.class)));
+    }
+
+    public Flux<Comment> findByPostUuid(String postUuid, Pageable pageable) {
+        return reactiveMongoTemplate.find(
+                CommentCustomRepositoryImpl.postCommentsQuery(postUuid).with(pageable), Comment.class);
+    }
+
+    public Flux<Comment> findByPostUuidAfter(
+            String postUuid, CommentCursor commentCursor, CommentSortType commentSortType, int limit) {
+        return reactiveMongoTemplate.find(
+                CommentCustomRepositoryImpl.postCommentsAfterQuery(postUuid, commentCursor, commentSortType, limit),
+                Comment.class);
+    }
+
+    public Mono<Comment> findNotDeletedByCommentUuid(String commentUuid) {
+        return reactiveMongoTemplate.findOne(
+                CommentCustomRepositoryImpl.notDeletedByCommentUuidQuery(commentUuid), Comment.class);
+    }
+
+    public Mono<Long> findLikeCountByCommentUuid(String commentUuid) {
+        Query query = CommentCustomRepositoryImpl.notDeletedByCommentUuidQuery(commentUuid);
+        query.fields().include("likeCount");
+        return reactiveMongoTemplate.findOne(query, Comment.class).map(Comment::getLikeCount);
+    }
+
+    public Flux<String> findLikedCommentUuids(String memberUuid, Collection<String> commentUuids) {
+        BasicQuery query = new BasicQuery(
+                CommentLikeCustomRepositoryImpl.likedCommentsFilter(memberUuid, commentUuids),
+                CommentLikeCustomRepositoryImpl.LIKED_COMMENTS_PROJECTION);
+        return reactiveMongoTemplate.find(query, Document.class, "comment_like")
+                .map(document -> document.getString("commentUuid"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import org.bson.Document;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * 조회 응답에 필요한 필드만 projection 으로 읽고, 드라이버가 반환한 Document 를 바로 CommentResDto 로 옮긴다.
+ * Comment 엔티티 생성과 MappingMongoConverter 의 리플렉션 매핑을 거치지 않는다.
+ */
+public final class CommentViewMapper {
+
+    public static final Document PROJECTION = new Document("_id", 0)
+            .append("commentUuid", 1)
+            .append("postUuid", 1)
+            .append("memberUuid", 1)
+            .append("content", 1)
+            .append("blind_status", 1)
+            .append("deleted_status", 1)
+            .append("likeCount", 1)
+            .append("parentCommentUuid", 1)
+            .append("rootCommentUuid", 1)
+            .append("replyCount", 1)
+            .append("created_at", 1)
+            .append("updated_at", 1);
+
+    private CommentViewMapper() {
+    }
+
+    public static CommentResDto toCommentResDto(Document document) {
+        return new CommentResDto(
+                document.getString("commentUuid"),
+                document.getString("postUuid"),
+                document.getString("memberUuid"),
+                document.getString("content"),
+                document.getBoolean("blind_status", false),
+                document.getBoolean("deleted_status", false),
+                longValue(document.get("likeCount")),
+                document.getString("parentCommentUuid"),
+                document.getString("rootCommentUuid"),
+                longValue(document.get("replyCount")),
+                localDateTime(document.getDate("created_at")),
+                localDateTime(document.getDate("updated_at")),
+                null,
+                null
+        );
+    }
+
+    private static long longValue(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    // MappingMongoConverter 의 기본 Date -> LocalDateTime 변환과 같이 시스템 시간대를 사용한다.
+    private static LocalDateTime localDateTime(Date date) {
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
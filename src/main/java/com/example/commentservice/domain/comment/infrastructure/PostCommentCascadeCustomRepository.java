@@ -0,0 +1,17 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.PostCommentCascade;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface PostCommentCascadeCustomRepository {
+
+    void startIfAbsent(String postUuid);
+
+    Optional<PostCommentCascade> claim(String postUuid, String owner, LocalDateTime leaseUntil);
+
+    boolean progress(String postUuid, String owner, long deleted, LocalDateTime leaseUntil);
+
+    boolean complete(String postUuid, String owner);
+}
@@ -0,0 +1,96 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.PostCommentCascade;
+import com.example.commentservice.domain.comment.entity.PostCommentCascadeStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * checkpoint 는 lease 를 가진 인스턴스(owner)만 갱신한다. 여러 인스턴스가 동시에 재개하거나 같은 삭제 이벤트를 받아도
+ * 한 곳에서만 처리되고, lease 가 만료되면 다른 인스턴스가 이어받는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCommentCascadeCustomRepositoryImpl implements PostCommentCascadeCustomRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 이미 있는 checkpoint 는 건드리지 않는다. 같은 게시글 삭제 이벤트가 다시 전달되어도 진행 상황이 초기화되지 않는다.
+     */
+    @Override
+    public void startIfAbsent(String postUuid) {
+        LocalDateTime now = LocalDateTime.now();
+        mongoTemplate.upsert(
+                new Query(Criteria.where("postUuid").is(postUuid)),
+                new Update()
+                        .setOnInsert("status", PostCommentCascadeStatus.RUNNING)
+                        .setOnInsert("deletedCount", 0L)
+                        .setOnInsert("startedAt", now)
+                        .setOnInsert("updatedAt", now),
+                PostCommentCascade.class
+        );
+    }
+
+    /**
+     * RUNNING 이고 lease 가 없거나 만료된(또는 이미 자신이 가진) checkpoint 를 findAndModify 로 선점한다.
+     */
+    @Override
+    public Optional<PostCommentCascade> claim(String postUuid, String owner, LocalDateTime leaseUntil) {
+        Query query = new Query(Criteria.where("postUuid").is(postUuid)
+                .and("status").is(PostCommentCascadeStatus.RUNNING)
+                .orOperator(
+                        Criteria.where("leaseUntil").exists(false),
+                        Criteria.where("leaseUntil").lt(LocalDateTime.now()),
+                        Criteria.where("owner").is(owner)
+                ));
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query,
+                new Update().set("owner", owner).set("leaseUntil", leaseUntil),
+                FindAndModifyOptions.options().returnNew(true),
+                PostCommentCascade.class
+        ));
+    }
+
+    /**
+     * chunk 처리 결과를 반영하면서 lease 를 연장한다. lease 를 잃었으면 false 를 반환한다.
+     */
+    @Override
+    public boolean progress(String postUuid, String owner, long deleted, LocalDateTime leaseUntil) {
+        return mongoTemplate.updateFirst(
+                ownedQuery(postUuid, owner),
+                new Update().inc("deletedCount", deleted)
+                        .set("updatedAt", LocalDateTime.now())
+                        .set("leaseUntil", leaseUntil),
+                PostCommentCascade.class
+        ).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean complete(String postUuid, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        return mongoTemplate.updateFirst(
+                ownedQuery(postUuid, owner),
+                new Update().set("status", PostCommentCascadeStatus.COMPLETED)
+                        .set("updatedAt", now)
+                        .set("completedAt", now)
+                        .unset("owner")
+                        .unset("leaseUntil"),
+                PostCommentCascade.class
+        ).getMatchedCount() > 0;
+    }
+
+    private static Query ownedQuery(String postUuid, String owner) {
+        return new Query(Criteria.where("postUuid").is(postUuid)
+                .and("status").is(PostCommentCascadeStatus.RUNNING)
+                .and("owner").is(owner));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.PostCommentCascade;
+import com.example.commentservice.domain.comment.entity.PostCommentCascadeStatus;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostCommentCascadeRepository
+        extends MongoRepository<PostCommentCascade, String>, PostCommentCascadeCustomRepository {
+    List<PostCommentCascade> findByStatus(PostCommentCascadeStatus status);
+}
@@ -0,0 +1,28 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.PostCommentCount;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface PostCommentCountCustomRepository {
+
+    void beginCountChange(String postUuid);
+
+    void beginCountChanges(Collection<String> postUuids);
+
+    void completeCountChange(String postUuid, long rootCommentDelta, long commentDelta);
+
+    void completeRootCommentChanges(Map<String, Long> rootCommentDeltas);
+
+    void abortCountChanges(Collection<String> postUuids);
+
+    void touch(String postUuid);
+
+    Map<String, PostCommentCount> seedFromComments(Collection<String> postUuids);
+
+    void replaceCounts(Collection<PostCommentCount> counts);
+
+    Stream<String> streamCommentedPostUuids();
+}
@@ -0,0 +1,280 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.PostCommentCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PostCommentCountCustomRepositoryImpl implements PostCommentCountCustomRepository {
+
+    private static final int MAX_SEED_ATTEMPTS = 3;
+    private static final Duration PENDING_WRITE_TIMEOUT = Duration.ofMinutes(1);
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 댓글을 쓰기 전에 호출한다. pendingWrites 와 countVersion 을 올려, 쓰기가 끝나 completeCountChange 가 반영될 때까지
+     * 집계(seed)가 카운터를 덮어쓰지 못하게 한다. 집계가 이미 반영된 댓글에 뒤늦게 $inc 가 한 번 더 더해지는 것을 막는다.
+     * 카운터 문서가 없으면 upsert 로 만든다. 새로 만든 문서는 증감분만 담고 있어 seeded 가 아니며,
+     * 처음 조회될 때 seedFromComments 로 comment 컬렉션 집계값으로 채워진다.
+     */
+    @Override
+    public void beginCountChange(String postUuid) {
+        mongoTemplate.upsert(
+                new Query(Criteria.where("postUuid").is(postUuid)),
+                beginUpdate(LocalDateTime.now()),
+                PostCommentCount.class
+        );
+    }
+
+    /**
+     * 일괄 등록처럼 여러 게시글의 댓글을 한 번에 쓰기 전에 unordered bulk upsert 한 번으로 쓰기 시작을 기록한다.
+     */
+    @Override
+    public void beginCountChanges(Collection<String> postUuids) {
+        if (postUuids.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostCommentCount.class);
+        postUuids.forEach(postUuid -> bulkOps.upsert(
+                new Query(Criteria.where("postUuid").is(postUuid)), beginUpdate(now)));
+        bulkOps.execute();
+    }
+
+    /**
+     * 댓글을 쓴 뒤 증감을 $inc 로 반영하고 beginCountChange 로 올린 pendingWrites 를 내린다.
+     * 쓰기가 조건에 맞지 않아 아무것도 바뀌지 않았으면 증감 0 으로 호출한다.
+     */
+    @Override
+    public void completeCountChange(String postUuid, long rootCommentDelta, long commentDelta) {
+        mongoTemplate.upsert(
+                new Query(Criteria.where("postUuid").is(postUuid)),
+                completeUpdate(rootCommentDelta, commentDelta, LocalDateTime.now()),
+                PostCommentCount.class
+        );
+    }
+
+    /**
+     * 일괄 등록처럼 여러 게시글의 최상위 댓글이 한 번에 늘어난 경우 unordered bulk upsert 한 번으로 반영한다.
+     * beginCountChanges 로 시작한 게시글은 저장된 댓글이 없더라도 증감 0 으로 포함해야 pendingWrites 가 내려간다.
+     */
+    @Override
+    public void completeRootCommentChanges(Map<String, Long> rootCommentDeltas) {
+        if (rootCommentDeltas.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostCommentCount.class);
+        rootCommentDeltas.forEach((postUuid, delta) -> bulkOps.upsert(
+                new Query(Criteria.where("postUuid").is(postUuid)),
+                completeUpdate(delta, delta, now)
+        ));
+        bulkOps.execute();
+    }
+
+    /**
+     * 쓰기가 예외로 끝나 반영 여부를 알 수 없을 때 호출한다. pendingWrites 를 내리고 seeded 를 풀어
+     * 다음 조회에서 comment 컬렉션 집계값으로 다시 채우게 한다.
+     */
+    @Override
+    public void abortCountChanges(Collection<String> postUuids) {
+        if (postUuids.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("postUuid").in(postUuids)),
+                new Update().inc("pendingWrites", -1).inc("countVersion", 1).inc("version", 1)
+                        .set("seeded", false).set("updatedAt", LocalDateTime.now()),
+                PostCommentCount.class
+        );
+    }
+
+    private static Update beginUpdate(LocalDateTime now) {
+        return new Update().inc("pendingWrites", 1).inc("countVersion", 1).set("updatedAt", now);
+    }
+
+    private static Update completeUpdate(long rootCommentDelta, long commentDelta, LocalDateTime now) {
+        Update update = new Update().inc("pendingWrites", -1).inc("countVersion", 1).set("updatedAt", now);
+        if (rootCommentDelta != 0 || commentDelta != 0) {
+            update.inc("rootCommentCount", rootCommentDelta).inc("commentCount", commentDelta).inc("version", 1);
+        }
+        return update;
+    }
+
+    /**
+     * 게시글 댓글 목록이 바뀌었음을 기록한다. version 을 올리고 updatedAt 을 마지막 변경 시각으로 남긴다.
+     * 댓글 수와 무관한 변경이므로 카운터 문서를 새로 만들지 않는다. (없는 게시글은 목록 조회 시 seed 로 만들어진다)
+     */
+    @Override
+    public void touch(String postUuid) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("postUuid").is(postUuid)),
+                new Update().inc("version", 1).set("updatedAt", LocalDateTime.now()),
+                PostCommentCount.class
+        );
+    }
+
+    /**
+     * comment 컬렉션 집계값으로 카운터를 채우고(seeded), 집계한 수를 반환한다.
+     * 집계 전에 읽은 countVersion 이 그대로이고 진행 중인 쓰기(pendingWrites)가 없을 때만 저장해,
+     * 집계하는 동안 들어온 증감을 덮어쓰거나 집계에 이미 포함된 댓글의 $inc 가 나중에 한 번 더 더해지지 않게 한다.
+     * countVersion 이 바뀌었거나 쓰기가 진행 중인 게시글은 다시 집계하며, max attempts 를 넘기면 저장하지 않고 집계값만 반환한다.
+     */
+    @Override
+    public Map<String, PostCommentCount> seedFromComments(Collection<String> postUuids) {
+        Map<String, PostCommentCount> counts = new HashMap<>();
+        Collection<String> pending = postUuids;
+        for (int attempt = 0; attempt < MAX_SEED_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            Map<String, PostCommentCount> counted = countFromComments(pending, findCountVersions(pending));
+            List<String> conflicted = new ArrayList<>();
+            counted.values().forEach(count -> {
+                counts.put(count.getPostUuid(), count);
+                if (!seed(count)) {
+                    conflicted.add(count.getPostUuid());
+                }
+            });
+            pending = conflicted;
+        }
+        if (!pending.isEmpty()) {
+            log.debug("게시글 댓글 수 seed 충돌, 다음 조회에서 재시도: posts={}", pending.size());
+        }
+        return counts;
+    }
+
+    /**
+     * comment 컬렉션을 게시글별로 집계해 현재 댓글 수를 계산한다. 댓글이 없는 게시글은 0 으로 채운다.
+     * (postUuid, rootCommentUuid, ...) 목록 인덱스의 prefix 로 게시글 범위만 읽는다.
+     * 결과의 countVersion 은 집계 전에 읽은 값이다.
+     */
+    Map<String, PostCommentCount> countFromComments(
+            Collection<String> postUuids, Map<String, Long> observedVersions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("postUuid", new Document("$in", postUuids))
+                        .append("deleted_status", false)),
+                new Document("$group", new Document("_id", "$postUuid")
+                        .append("commentCount", new Document("$sum", 1))
+                        .append("rootCommentCount", new Document("$sum", new Document("$cond", List.of(
+                                new Document("$eq", Arrays.asList(
+                                        new Document("$ifNull", Arrays.asList("$rootCommentUuid", null)), null)),
+                                1, 0)))))
+        );
+
+        Map<String, PostCommentCount> counts = new HashMap<>();
+        postUuids.forEach(postUuid -> counts.put(postUuid, PostCommentCount.builder()
+                .postUuid(postUuid)
+                .countVersion(observedVersions.getOrDefault(postUuid, 0L))
+                .updatedAt(now)
+                .build()));
+        mongoTemplate.execute("comment", collection -> {
+            for (Document count : collection.aggregate(pipeline)) {
+                String postUuid = count.getString("_id");
+                counts.put(postUuid, PostCommentCount.builder()
+                        .postUuid(postUuid)
+                        .commentCount(((Number) count.get("commentCount")).longValue())
+                        .rootCommentCount(((Number) count.get("rootCommentCount")).longValue())
+                        .countVersion(observedVersions.getOrDefault(postUuid, 0L))
+                        .updatedAt(now)
+                        .build());
+            }
+            return counts;
+        });
+        return counts;
+    }
+
+    Map<String, Long> findCountVersions(Collection<String> postUuids) {
+        Query query = new Query(Criteria.where("postUuid").in(postUuids));
+        query.fields().include("countVersion");
+        Map<String, Long> versions = new HashMap<>();
+        mongoTemplate.find(query, PostCommentCount.class)
+                .forEach(count -> versions.put(count.getPostUuid(), count.getCountVersion()));
+        return versions;
+    }
+
+    /**
+     * 집계 전 countVersion 과 같고 진행 중인 쓰기가 없을 때만 덮어쓴다. 문서가 없었으면 새로 만들고,
+     * 그 사이 다른 요청이 문서를 만들었거나 countVersion 을 올렸거나 쓰기가 진행 중이면 _id 충돌 / 미일치로 false 를 반환한다.
+     * 쓰기를 시작한 인스턴스가 complete 없이 죽으면 pendingWrites 가 남으므로, pending-write-timeout 동안 변경이 없었던
+     * 문서는 진행 중인 쓰기가 없는 것으로 본다.
+     */
+    boolean seed(PostCommentCount count) {
+        Criteria criteria = Criteria.where("postUuid").is(count.getPostUuid());
+        criteria = count.getCountVersion() == 0
+                ? criteria.and("countVersion").in(0L, null)
+                : criteria.and("countVersion").is(count.getCountVersion());
+        criteria = criteria.orOperator(
+                Criteria.where("pendingWrites").not().gt(0),
+                Criteria.where("updatedAt").lt(LocalDateTime.now().minus(PENDING_WRITE_TIMEOUT))
+        );
+        try {
+            mongoTemplate.upsert(
+                    new Query(criteria),
+                    new Update().set("commentCount", count.getCommentCount())
+                            .set("rootCommentCount", count.getRootCommentCount())
+                            .set("seeded", true)
+                            .set("pendingWrites", 0)
+                            .setOnInsert("updatedAt", count.getUpdatedAt()),
+                    PostCommentCount.class
+            );
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 집계와 무관하게 수를 덮어쓴다. (게시글 삭제처럼 결과가 정해진 경우)
+     */
+    @Override
+    public void replaceCounts(Collection<PostCommentCount> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostCommentCount.class);
+        counts.forEach(count -> bulkOps.upsert(
+                new Query(Criteria.where("postUuid").is(count.getPostUuid())),
+                new Update().set("commentCount", count.getCommentCount())
+                        .set("rootCommentCount", count.getRootCommentCount())
+                        .set("seeded", true)
+                        .set("updatedAt", count.getUpdatedAt())
+                        .inc("countVersion", 1)
+                        .inc("version", 1)
+        ));
+        bulkOps.execute();
+    }
+
+    /**
+     * 댓글이 있는 게시글 UUID 를 커서로 흘려보낸다. 호출한 쪽에서 Stream 을 닫아야 한다.
+     * bulkhead 가 켜져 있으면 Stream 을 닫을 때까지 허용량 하나를 차지한다.
+     */
+    @Override
+    public Stream<String> streamCommentedPostUuids() {
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation.group("postUuid"))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        return mongoTemplate.aggregateStream(aggregation, "comment", Document.class)
+                .map(group -> group.getString("_id"));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.PostCommentCount;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostCommentCountRepository
+        extends MongoRepository<PostCommentCount, String>, PostCommentCountCustomRepository {
+}
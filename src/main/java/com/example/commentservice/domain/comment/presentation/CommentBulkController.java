@@ -0,0 +1,86 @@
+package com.example.commentservice.domain.comment.presentation;
+
+import com.example.commentservice.common.entity.BaseResponseEntity;
+import com.example.commentservice.domain.comment.application.CommentBulkIngestService;
+import com.example.commentservice.domain.comment.dto.out.CommentBulkCreateResDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/comment/bulk")
+@Tag(name = "comment")
+@Slf4j
+public class CommentBulkController {
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final CommentBulkIngestService commentBulkIngestService;
+
+    @Operation(
+            summary = "댓글 일괄 등록 (NDJSON)",
+            description = """
+                    한 줄에 댓글 하나씩 담긴 NDJSON 본문을 읽어 댓글을 일괄 등록합니다. (이관 / 가져오기용)
+                    
+                    [요청 경로]
+                    - POST /api/v1/comment/bulk (Content-Type: application/x-ndjson)
+                    
+                    [요청 바디]
+                    - 각 줄: {"postUuid": "...", "memberUuid": "...", "content": "..."}
+                    
+                    [응답 필드]
+                    - total / succeeded / failed: 전체, 성공, 실패 건수
+                    - truncated: 최대 등록 개수에 도달해 뒤 항목을 읽지 않았는지 여부
+                    - failures: 실패 항목의 줄 위치(index, 빈 줄 제외 0부터), 에러 코드, 사유
+                    
+                    [처리 로직]
+                    - chunk-size 단위로 unordered bulk insert (일부 실패해도 나머지는 저장)
+                    - 생성 이벤트는 outbox 에 함께 기록되어 relay 가 배치로 발행
+                    - 최대 등록 개수를 넘는 항목은 읽지 않고, 저장된 결과와 함께 TOO_MANY_BULK_COMMENTS 실패(시작 index)로 응답
+                    """
+    )
+    @PostMapping(consumes = APPLICATION_NDJSON_VALUE)
+    public BaseResponseEntity<CommentBulkCreateResDto> createCommentsNdjson(
+            HttpServletRequest request
+    ) throws IOException {
+        return new BaseResponseEntity<>(commentBulkIngestService.ingestNdjson(request.getReader()));
+    }
+
+    @Operation(
+            summary = "댓글 일괄 등록 (JSON 배열)",
+            description = """
+                    댓글 목록을 JSON 배열로 받아 일괄 등록합니다.
+                    
+                    [요청 경로]
+                    - POST /api/v1/comment/bulk (Content-Type: application/json)
+                    
+                    [요청 바디]
+                    - [{"postUuid": "...", "memberUuid": "...", "content": "..."}, ...]
+                    
+                    [응답 필드]
+                    - total / succeeded / failed: 전체, 성공, 실패 건수
+                    - truncated: 최대 등록 개수에 도달해 뒤 항목을 읽지 않았는지 여부
+                    - failures: 실패 항목의 배열 위치(index), 에러 코드, 사유
+                    
+                    [처리 로직]
+                    - 배열 전체를 메모리에 올리지 않고 원소 단위로 읽어 chunk-size 단위로 저장
+                    - 최대 등록 개수를 넘는 항목은 읽지 않고, 저장된 결과와 함께 TOO_MANY_BULK_COMMENTS 실패(시작 index)로 응답
+                    
+                    [예외 상황]
+                    - INVALID_BULK_COMMENT_ITEM: 본문이 JSON 배열이 아닌 경우
+                    """
+    )
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BaseResponseEntity<CommentBulkCreateResDto> createComments(
+            HttpServletRequest request
+    ) throws IOException {
+        return new BaseResponseEntity<>(commentBulkIngestService.ingestJsonArray(request.getInputStream()));
+    }
+}
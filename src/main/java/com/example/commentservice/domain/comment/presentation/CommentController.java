@@ -5,9 +5,14 @@ import com.example.commentservice.common.response.BaseResponseStatus;
 import com.example.commentservice.domain.comment.application.CommentService;
 import com.example.commentservice.domain.comment.dto.in.CommentCreateReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentDeleteReqDto;
+import com.example.commentservice.domain.comment.dto.in.CommentReplyCreateReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentUpdateReqDto;
+import com.example.commentservice.domain.comment.dto.in.PostCommentCountBatchReqDto;
+import com.example.commentservice.domain.comment.dto.out.CommentCursorPageResDto;
 import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
 import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.dto.out.PostCommentCountResDto;
+import com.example.commentservice.domain.comment.dto.out.PostCommentVersionResDto;
 import com.example.commentservice.domain.comment.entity.CommentSortType;
 import com.example.commentservice.domain.comment.vo.in.CommentCreateReqVo;
 import com.example.commentservice.domain.comment.vo.in.CommentUpdateReqVo;
@@ -16,6 +21,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -47,11 +57,11 @@ public class CommentController {
                     - 성공 시: 200 OK + SUCCESS 메시지
                     
                     [처리 로직]
-                    - 게시글 존재 여부 확인
+                    - 게시글 존재 여부 확인 (로컬 캐시, 없으면 post-service 조회)
                     - 댓글 등록 처리 및 저장
                     
                     [예외 상황]
-                    - NO_EXIST_POST: 게시글이 존재하지 않는 경우
+                    - POST_NOT_FOUND: 게시글이 존재하지 않는 경우
                     """
     )
     @PostMapping("/post/{postUuid}")
@@ -64,6 +74,41 @@ public class CommentController {
         return new BaseResponseEntity<>(BaseResponseStatus.SUCCESS);
     }
 
+    @Operation(
+            summary = "답글 생성",
+            description = """
+                    댓글(또는 답글)에 회원이 답글을 작성합니다.
+                    
+                    [요청 경로]
+                    - POST /api/v1/comment/{commentUuid}/reply
+                    
+                    [요청 헤더]
+                    - X-Member-UUID: (String) 답글 작성자 고유 식별자 (필수)
+                    
+                    [요청 파라미터]
+                    - path variable: commentUuid (String) 답글을 달 댓글의 UUID
+                    
+                    [요청 바디]
+                    - content: (String) 답글 내용 (필수)
+                    
+                    [처리 로직]
+                    - 답글은 부모 댓글과 같은 게시글, 같은 스레드(최상위 댓글)에 속함
+                    - 최상위 댓글의 replyCount 를 함께 증가
+                    
+                    [예외 상황]
+                    - NOT_FOUND_COMMENT: 부모 댓글 또는 스레드의 최상위 댓글이 존재하지 않는 경우
+                    """
+    )
+    @PostMapping("/{commentUuid}/reply")
+    public BaseResponseEntity<Void> createReply(
+            @RequestHeader("X-Member-UUID") String memberUuid,
+            @PathVariable String commentUuid,
+            @RequestBody CommentCreateReqVo commentCreateReqVo
+    ) {
+        commentService.createReply(CommentReplyCreateReqDto.of(commentUuid, memberUuid, commentCreateReqVo));
+        return new BaseResponseEntity<>(BaseResponseStatus.SUCCESS);
+    }
+
     @Operation(
             summary = "댓글 수정",
             description = """
@@ -137,10 +182,17 @@ public class CommentController {
             [요청 파라미터]
             - postUuid: (String) 게시글 UUID
             - page: (int) 페이지 번호 (기본값: 0)
-            - commentSortType: (String) 정렬 기준 (RECENT, POPULAR)
+            - commentSortType: (String) 정렬 기준 (RECENT, LIKE)
+
+            [요청 헤더]
+            - X-Member-UUID: (String, optional) 회원 UUID. 있으면 각 댓글에 likedByMe 포함
+            - If-None-Match / If-Modified-Since: (optional) 이전 응답의 ETag / Last-Modified
 
             [처리 로직]
+            - 게시글 댓글 목록 version 이 이전 응답과 같으면 본문 없이 304 Not Modified 반환
             - 게시글 UUID에 따른 댓글 페이징 목록 조회
+            - 최상위 댓글만 조회하고, 답글이 있는 댓글은 앞쪽 답글(replies)을 함께 반환
+            - 응답에 ETag(게시글 댓글 목록 version) / Last-Modified(마지막 변경 시각) 헤더 포함
 
             [예외 상황]
             - NO_EXIST_POST: 게시글이 존재하지 않음
@@ -150,9 +202,117 @@ public class CommentController {
     public BaseResponseEntity<CommentListPageResDto> getCommentsByPostUuid(
             @PathVariable String postUuid,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "RECENT") CommentSortType commentSortType
+            @RequestParam(defaultValue = "RECENT") CommentSortType commentSortType,
+            @RequestHeader(value = "X-Member-UUID", required = false) String memberUuid,
+            WebRequest webRequest
+    ) {
+        // version 은 카운터 문서 하나로 확인하므로, 바뀌지 않았으면 comment 컬렉션을 읽지 않고 304 로 끝난다.
+        PostCommentVersionResDto postCommentVersion = commentService.getCommentListVersion(postUuid).orElse(null);
+        if (postCommentVersion != null && webRequest.checkNotModified(
+                listETag(postCommentVersion, memberUuid), postCommentVersion.lastModifiedMillis())) {
+            return null;
+        }
+        return new BaseResponseEntity<>(commentService.getCommentsByPostUuid(
+                postUuid, page, commentSortType, memberUuid, postCommentVersion));
+    }
+
+    @Operation(
+            summary = "게시글 댓글 목록 커서 조회",
+            description = """
+            게시글 UUID를 기반으로 댓글 목록을 커서 방식으로 조회합니다.
+            전체 개수를 세지 않고, 이전 응답의 nextCursor 이후의 댓글만 조회합니다.
+
+            [요청 경로]
+            - /api/v1/comment/post/{postUuid}/cursor
+
+            [요청 파라미터]
+            - postUuid: (String) 게시글 UUID
+            - cursor: (String, optional) 이전 응답의 nextCursor. 없으면 첫 페이지
+            - commentSortType: (String) 정렬 기준 (RECENT, LIKE)
+
+            [요청 헤더]
+            - X-Member-UUID: (String, optional) 회원 UUID. 있으면 각 댓글에 likedByMe 포함
+
+            [응답 필드]
+            - comments: 최상위 댓글 목록. 답글이 있는 댓글은 앞쪽 답글(replies) 포함
+            - nextCursor: (String) 다음 페이지 커서. 마지막 페이지면 null
+            - hasNext: (boolean) 다음 페이지 존재 여부
+
+            [예외 상황]
+            - INVALID_COMMENT_CURSOR: 커서 형식이 잘못되었거나 정렬 기준과 맞지 않음
+        """
+    )
+    @GetMapping("/post/{postUuid}/cursor")
+    public BaseResponseEntity<CommentCursorPageResDto> getCommentsByPostUuidWithCursor(
+            @PathVariable String postUuid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "RECENT") CommentSortType commentSortType,
+            @RequestHeader(value = "X-Member-UUID", required = false) String memberUuid
     ) {
-        return new BaseResponseEntity<>(commentService.getCommentsByPostUuid(postUuid, page, commentSortType));
+        return new BaseResponseEntity<>(
+                commentService.getCommentsByPostUuidWithCursor(postUuid, cursor, commentSortType, memberUuid));
+    }
+
+    @Operation(
+            summary = "게시글 댓글 수 일괄 조회",
+            description = """
+            여러 게시글의 댓글 수(답글 포함)를 한 번에 조회합니다. (게시글 목록 화면용)
+
+            [요청 경로]
+            - GET /api/v1/comment/count?postUuids={uuid1},{uuid2}
+
+            [요청 파라미터]
+            - postUuids: (List<String>) 게시글 UUID 목록 (최대 100개, 중복은 한 번만 조회)
+
+            [응답 필드]
+            - postUuid: postUuid
+            - commentCount: (long) 삭제되지 않은 댓글 수 (댓글이 없는 게시글은 0)
+
+            [처리 로직]
+            - 게시글별 댓글 수 카운터(post_comment_count)에서 조회
+
+            [예외 상황]
+            - TOO_MANY_POST_UUIDS: 최대 조회 개수를 초과한 경우
+        """
+    )
+    @GetMapping("/count")
+    public BaseResponseEntity<List<PostCommentCountResDto>> getCommentCounts(
+            @RequestParam List<String> postUuids
+    ) {
+        return new BaseResponseEntity<>(commentService.getCommentCounts(PostCommentCountBatchReqDto.from(postUuids)));
+    }
+
+    @Operation(
+            summary = "답글 목록 커서 조회",
+            description = """
+            최상위 댓글 UUID를 기반으로 스레드의 답글을 작성 순서대로 커서 방식으로 조회합니다.
+
+            [요청 경로]
+            - /api/v1/comment/{commentUuid}/replies
+
+            [요청 파라미터]
+            - commentUuid: (String) 스레드의 최상위 댓글 UUID
+            - cursor: (String, optional) 이전 응답의 nextCursor. 없으면 첫 페이지
+
+            [요청 헤더]
+            - X-Member-UUID: (String, optional) 회원 UUID. 있으면 각 답글에 likedByMe 포함
+
+            [응답 필드]
+            - comments: 답글 목록 (parentCommentUuid 로 바로 위 댓글을 알 수 있음)
+            - nextCursor: (String) 다음 페이지 커서. 마지막 페이지면 null
+            - hasNext: (boolean) 다음 페이지 존재 여부
+
+            [예외 상황]
+            - INVALID_COMMENT_CURSOR: 커서 형식이 잘못된 경우
+        """
+    )
+    @GetMapping("/{commentUuid}/replies")
+    public BaseResponseEntity<CommentCursorPageResDto> getRepliesWithCursor(
+            @PathVariable String commentUuid,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = "X-Member-UUID", required = false) String memberUuid
+    ) {
+        return new BaseResponseEntity<>(commentService.getRepliesWithCursor(commentUuid, cursor, memberUuid));
     }
 
     @Operation(
@@ -166,15 +326,49 @@ public class CommentController {
             [요청 파라미터]
             - commentUuid: (String) 댓글 UUID
 
+            [요청 헤더]
+            - If-None-Match / If-Modified-Since: (optional) 이전 응답의 ETag / Last-Modified
+
             [처리 로직]
             - 댓글 UUID 기준으로 댓글 상세 정보 반환
+            - 수정 시각(updatedAt), 좋아요 수, 답글 수가 이전 응답과 같으면 본문 없이 304 Not Modified 반환
 
             [예외 상황]
             - NO_EXIST_COMMENT: 댓글이 존재하지 않음
         """
     )
     @GetMapping("/{commentUuid}")
-    public BaseResponseEntity<CommentResDto> getCommentByCommentUuid(@PathVariable String commentUuid) {
-        return new BaseResponseEntity<>(commentService.getCommentByCommentUuid(commentUuid));
+    public BaseResponseEntity<CommentResDto> getCommentByCommentUuid(
+            @PathVariable String commentUuid,
+            WebRequest webRequest
+    ) {
+        CommentResDto comment = commentService.getCommentByCommentUuid(commentUuid);
+        if (webRequest.checkNotModified(detailETag(comment), epochMillis(comment.getUpdatedAt()))) {
+            return null;
+        }
+        return new BaseResponseEntity<>(comment);
+    }
+
+    /**
+     * likedByMe 는 회원마다 다르므로 회원 UUID 를 ETag 에 함께 넣는다.
+     */
+    private static String listETag(PostCommentVersionResDto postCommentVersion, String memberUuid) {
+        String etag = "v" + postCommentVersion.getVersion();
+        if (memberUuid != null && !memberUuid.isBlank()) {
+            etag += "-" + Integer.toHexString(memberUuid.hashCode());
+        }
+        return "\"" + etag + "\"";
+    }
+
+    /**
+     * 좋아요 수와 답글 수는 updatedAt 을 바꾸지 않고 증감되므로 ETag 에 함께 넣는다.
+     */
+    private static String detailETag(CommentResDto comment) {
+        return "\"" + epochMillis(comment.getUpdatedAt()) + "-" + comment.getLikeCount()
+                + "-" + comment.getReplyCount() + "\"";
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
@@ -4,6 +4,8 @@ package com.example.commentservice.domain.comment.presentation;
 import com.example.commentservice.common.entity.BaseResponseEntity;
 import com.example.commentservice.common.response.BaseResponseStatus;
 import com.example.commentservice.domain.comment.application.CommentLikeService;
+import com.example.commentservice.domain.comment.dto.in.CommentLikeCheckBatchReqDto;
+import com.example.commentservice.domain.comment.dto.in.CommentLikeCountBatchReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentLikeCountReqDto;
 import com.example.commentservice.domain.comment.dto.in.CommentLikeReqDto;
 import com.example.commentservice.domain.comment.dto.out.CommentLikeCheckResDto;
@@ -15,6 +17,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 @RestController
 @RequiredArgsConstructor
@@ -40,7 +44,7 @@ public class CommentLikeController {
                         - path variable: commentUuid (String) 댓글 UUID
                     
                         [처리 로직]
-                        - 중복 여부 확인 후 좋아요 등록
+                        - (commentUuid, memberUuid) unique 인덱스 기준 upsert 로 좋아요 등록
                     
                         [예외 상황]
                         - NO_EXIST_COMMENT: 댓글이 존재하지 않음
@@ -71,9 +75,10 @@ public class CommentLikeController {
                         - path variable: commentUuid (String) 댓글 UUID
                     
                         [처리 로직]
-                        - 해당 좋아요 정보 확인 후 삭제
+                        - 해당 좋아요 정보 삭제
                     
                         [예외 상황]
+                        - NOT_FOUND_COMMENT_LIKE: 좋아요 내역이 없는 경우
                     """
     )
     @DeleteMapping("/{commentUuid}")
@@ -101,7 +106,7 @@ public class CommentLikeController {
                         - likeCount: (int) 해당 댓글의 총 좋아요 수
                     
                         [처리 로직]
-                        - 댓글 UUID 기준으로 좋아요 수 집계
+                        - 댓글에 저장된 likeCount 반환 (존재하지 않는 댓글은 0)
                     """
     )
     @GetMapping("/{commentUuid}")
@@ -113,6 +118,37 @@ public class CommentLikeController {
         return new BaseResponseEntity<>(commentLikeCount.toVo(commentLikeCount));
     }
 
+    @Operation(
+            summary = "댓글 좋아요 수 일괄 조회",
+            description = """
+                        여러 댓글의 좋아요 수를 한 번에 조회합니다.
+                    
+                        [요청 경로]
+                        - GET /api/v1/comment-like/counts?commentUuids={uuid1},{uuid2}
+                    
+                        [요청 파라미터]
+                        - commentUuids: (List<String>) 댓글 UUID 목록 (최대 100개, 중복은 한 번만 조회)
+                    
+                        [응답 필드]
+                        - commentUuid: commentUuid
+                        - likeCount: (int) 해당 댓글의 총 좋아요 수 (존재하지 않는 댓글은 0)
+                    
+                        [처리 로직]
+                        - 댓글 UUID 목록 기준 조회 한 번으로 좋아요 수 반환
+                    
+                        [예외 상황]
+                        - TOO_MANY_COMMENT_UUIDS: 최대 조회 개수를 초과한 경우
+                    """
+    )
+    @GetMapping("/counts")
+    public BaseResponseEntity<List<CommentLikeCountResVo>> getCommentLikeCounts(
+            @RequestParam List<String> commentUuids
+    ) {
+        List<CommentLikeCountResDto> commentLikeCounts = commentLikeService.getCommentLikeCounts(
+                CommentLikeCountBatchReqDto.from(commentUuids));
+        return new BaseResponseEntity<>(commentLikeCounts.stream().map(CommentLikeCountResDto::toVo).toList());
+    }
+
     @Operation(
             summary = "회원 댓글 좋아요 여부 확인",
             description = """
@@ -135,4 +171,35 @@ public class CommentLikeController {
     ) {
         return new BaseResponseEntity<>(commentLikeService.hasLikedComment(commentUuid, memberUuid));
     }
+
+    @Operation(
+            summary = "회원 댓글 좋아요 여부 일괄 확인",
+            description = """
+            여러 댓글에 대해 회원이 좋아요를 눌렀는지 여부를 한 번에 확인합니다.
+
+            [요청 경로]
+            - GET /api/v1/comment-like/likes/me?commentUuids={uuid1},{uuid2}
+
+            [요청 헤더]
+            - X-Member-UUID: (String, optional) 회원 UUID. 비회원일 경우 모두 false
+
+            [요청 파라미터]
+            - commentUuids: (List<String>) 댓글 UUID 목록 (최대 100개, 중복은 한 번만 조회)
+
+            [응답 필드]
+            - commentUuid: commentUuid
+            - liked: (boolean) true: 좋아요한 경우 / false: 좋아요하지 않은 경우
+
+            [예외 상황]
+            - TOO_MANY_COMMENT_UUIDS: 최대 조회 개수를 초과한 경우
+        """
+    )
+    @GetMapping("/likes/me")
+    public BaseResponseEntity<List<CommentLikeCheckResDto>> hasLikedComments(
+            @RequestParam List<String> commentUuids,
+            @RequestHeader(value = "X-Member-UUID", required = false) String memberUuid
+    ) {
+        return new BaseResponseEntity<>(
+                commentLikeService.hasLikedComments(CommentLikeCheckBatchReqDto.of(memberUuid, commentUuids)));
+    }
 }
@@ -0,0 +1,141 @@
+package com.example.commentservice.domain.comment.presentation;
+
+import com.example.commentservice.common.entity.BaseResponseEntity;
+import com.example.commentservice.domain.comment.application.CommentReactiveService;
+import com.example.commentservice.domain.comment.dto.out.CommentCursorPageResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentLikeCountResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import com.example.commentservice.domain.comment.vo.out.CommentLikeCountResVo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 기존 MVC 조회 API 와 같은 응답을 reactive 조회 경로로 제공한다. p99 / 커넥션당 메모리 비교를 위해 별도 prefix 로 둔다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reactive")
+@Tag(name = "comment-reactive")
+public class CommentReactiveController {
+
+    private final CommentReactiveService commentReactiveService;
+
+    @Operation(
+            summary = "게시글 댓글 목록 조회 (reactive)",
+            description = """
+            /api/v1/comment/post/{postUuid}/list 와 같은 응답을 reactive 경로로 조회합니다.
+            전체 개수와 페이지 조회를 동시에 실행합니다. 목록 캐시는 사용하지 않습니다.
+
+            [요청 경로]
+            - /api/v1/reactive/comment/post/{postUuid}/list
+
+            [요청 파라미터]
+            - page: (int) 페이지 번호 (기본값: 0)
+            - commentSortType: (String) 정렬 기준 (RECENT, LIKE)
+
+            [요청 헤더]
+            - X-Member-UUID: (String, optional) 회원 UUID. 있으면 각 댓글에 likedByMe 포함
+        """
+    )
+    @GetMapping("/comment/post/{postUuid}/list")
+    public Mono<BaseResponseEntity<CommentListPageResDto>> getCommentsByPostUuid(
+            @PathVariable String postUuid,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "RECENT") CommentSortType commentSortType,
+            @RequestHeader(value = "X-Member-UUID", required = false) String memberUuid
+    ) {
+        return commentReactiveService.getCommentsByPostUuid(postUuid, page, commentSortType, memberUuid)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(
+            summary = "게시글 댓글 목록 커서 조회 (reactive)",
+            description = """
+            /api/v1/comment/post/{postUuid}/cursor 와 같은 응답을 reactive 경로로 조회합니다.
+
+            [요청 경로]
+            - /api/v1/reactive/comment/post/{postUuid}/cursor
+
+            [요청 파라미터]
+            - cursor: (String, optional) 이전 응답의 nextCursor. 없으면 첫 페이지
+            - commentSortType: (String) 정렬 기준 (RECENT, LIKE)
+
+            [예외 상황]
+            - INVALID_COMMENT_CURSOR: 커서 형식이 잘못되었거나 정렬 기준과 맞지 않음
+        """
+    )
+    @GetMapping("/comment/post/{postUuid}/cursor")
+    public Mono<BaseResponseEntity<CommentCursorPageResDto>> getCommentsByPostUuidWithCursor(
+            @PathVariable String postUuid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "RECENT") CommentSortType commentSortType,
+            @RequestHeader(value = "X-Member-UUID", required = false) String memberUuid
+    ) {
+        return commentReactiveService.getCommentsByPostUuidWithCursor(postUuid, cursor, commentSortType, memberUuid)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(
+            summary = "게시글 댓글 스트리밍 조회 (reactive)",
+            description = """
+            커서 이후의 댓글을 한 줄에 하나씩 NDJSON 으로 스트리밍합니다.
+            응답을 모아서 보내지 않고 Mongo 에서 읽는 대로 전송하며, 한 번에 최대 comment.reactive.stream.max-size 건까지 보냅니다.
+
+            [요청 경로]
+            - /api/v1/reactive/comment/post/{postUuid}/stream
+
+            [요청 파라미터]
+            - cursor: (String, optional) 시작 커서. 없으면 처음부터
+            - commentSortType: (String) 정렬 기준 (RECENT, LIKE)
+        """
+    )
+    @GetMapping(value = "/comment/post/{postUuid}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CommentResDto> streamCommentsByPostUuid(
+            @PathVariable String postUuid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "RECENT") CommentSortType commentSortType
+    ) {
+        return commentReactiveService.streamCommentsByPostUuid(postUuid, cursor, commentSortType);
+    }
+
+    @Operation(
+            summary = "단일 댓글 상세 조회 (reactive)",
+            description = """
+            /api/v1/comment/{commentUuid} 와 같은 응답을 reactive 경로로 조회합니다. 상세 캐시는 사용하지 않습니다.
+
+            [요청 경로]
+            - /api/v1/reactive/comment/{commentUuid}
+
+            [예외 상황]
+            - NO_EXIST_COMMENT: 댓글이 존재하지 않음
+        """
+    )
+    @GetMapping("/comment/{commentUuid}")
+    public Mono<BaseResponseEntity<CommentResDto>> getCommentByCommentUuid(@PathVariable String commentUuid) {
+        return commentReactiveService.getCommentByCommentUuid(commentUuid).map(BaseResponseEntity::new);
+    }
+
+    @Operation(
+            summary = "댓글 좋아요 수 조회 (reactive)",
+            description = """
+            댓글에 저장된 likeCount 를 reactive 경로로 조회합니다.
+            write-behind 카운터를 사용하는 경우 아직 반영되지 않은 증감분은 포함되지 않습니다.
+
+            [요청 경로]
+            - /api/v1/reactive/comment-like/{commentUuid}
+        """
+    )
+    @GetMapping("/comment-like/{commentUuid}")
+    public Mono<BaseResponseEntity<CommentLikeCountResVo>> getCommentLikeCount(@PathVariable String commentUuid) {
+        return commentReactiveService.getCommentLikeCount(commentUuid)
+                .map(CommentLikeCountResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+}
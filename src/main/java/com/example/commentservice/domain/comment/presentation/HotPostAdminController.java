@@ -0,0 +1,44 @@
+package com.example.commentservice.domain.comment.presentation;
+
+import com.example.commentservice.common.entity.BaseResponseEntity;
+import com.example.commentservice.domain.comment.application.CommentListCache;
+import com.example.commentservice.domain.comment.dto.out.HotPostResDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/hot-posts")
+@Tag(name = "comment-admin")
+@Slf4j
+public class HotPostAdminController {
+
+    private final CommentListCache commentListCache;
+
+    @Operation(
+            summary = "hot post 조회",
+            description = """
+                    목록 조회가 몰려 페이지를 고정(pin) 캐시 중인 게시글을 조회합니다.
+                    
+                    [요청 경로]
+                    - GET /api/v1/admin/hot-posts
+                    
+                    [응답 필드]
+                    - postUuid: 게시글 UUID
+                    - estimatedHits: (long) count-min sketch 로 추정한 최근 목록 조회 수 (decay 주기마다 절반으로 감소)
+                    - pinnedPages: (int) 고정되어 주기적으로 갱신 중인 목록 페이지 수
+                    
+                    [처리 로직]
+                    - 이 인스턴스가 받은 요청 기준 (인스턴스별로 다를 수 있음)
+                    """
+    )
+    @GetMapping
+    public BaseResponseEntity<List<HotPostResDto>> getHotPosts() {
+        return new BaseResponseEntity<>(commentListCache.describeHotPosts());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.commentservice.domain.comment.presentation;
+
+import com.example.commentservice.common.entity.BaseResponseEntity;
+import com.example.commentservice.common.response.BaseResponseStatus;
+import com.example.commentservice.domain.comment.application.PostCommentCountRebuilder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/post-comment-count")
+@Tag(name = "comment-admin")
+@Slf4j
+public class PostCommentCountAdminController {
+
+    private final PostCommentCountRebuilder postCommentCountRebuilder;
+
+    @Operation(
+            summary = "게시글 댓글 수 재계산",
+            description = """
+                    comment 컬렉션을 게시글별로 다시 집계해 post_comment_count 를 덮어씁니다.
+                    
+                    [요청 경로]
+                    - POST /api/v1/admin/post-comment-count/rebuild
+                    
+                    [처리 로직]
+                    - 백그라운드에서 게시글 batch 단위로 병렬 집계 후 bulk upsert (요청은 시작만 하고 바로 반환)
+                    - 카운터 도입 직후 또는 카운터가 어긋났을 때 실행
+                    
+                    [예외 상황]
+                    - POST_COMMENT_COUNT_REBUILD_RUNNING: 이미 재계산이 진행 중인 경우
+                    """
+    )
+    @PostMapping("/rebuild")
+    public BaseResponseEntity<Void> rebuild() {
+        postCommentCountRebuilder.start();
+        return new BaseResponseEntity<>(BaseResponseStatus.SUCCESS);
+    }
+}
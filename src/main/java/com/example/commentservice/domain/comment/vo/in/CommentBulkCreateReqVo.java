@@ -0,0 +1,21 @@
+package com.example.commentservice.domain.comment.vo.in;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CommentBulkCreateReqVo {
+
+    private String postUuid;
+    private String memberUuid;
+    private String content;
+
+    @Builder
+    public CommentBulkCreateReqVo(String postUuid, String memberUuid, String content) {
+        this.postUuid = postUuid;
+        this.memberUuid = memberUuid;
+        this.content = content;
+    }
+}
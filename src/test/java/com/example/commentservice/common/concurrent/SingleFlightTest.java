@@ -0,0 +1,152 @@
+package com.example.commentservice.common.concurrent;
+
+import com.example.commentservice.common.exception.BaseException;
+import com.example.commentservice.common.response.BaseResponseStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * leader 의 결과 / 예외가 follower 에게 그대로 전달되는지와 follower timeout 정책을 검증한다.
+ */
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void followerReceivesLeaderResultWithoutLoading() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", 5_000, new SimpleMeterRegistry());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return "value";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return "follower";
+        }));
+        waitUntilFollowerJoins(singleFlight);
+        releaseLeader.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void leaderExceptionIsPropagatedToFollower() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", 5_000, new SimpleMeterRegistry());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            leaderStarted.countDown();
+            await(releaseLeader);
+            throw new BaseException(BaseResponseStatus.NOT_FOUND_COMMENT);
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "follower"));
+        waitUntilFollowerJoins(singleFlight);
+        releaseLeader.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(BaseException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .cause()
+                .isInstanceOf(BaseException.class)
+                .extracting(cause -> ((BaseException) cause).getStatus())
+                .isEqualTo(BaseResponseStatus.NOT_FOUND_COMMENT);
+    }
+
+    @Test
+    void followerTimeoutIsRejectedByDefault() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", 50, new SimpleMeterRegistry());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return "value";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+                loads.incrementAndGet();
+                return "follower";
+            }))
+                    .isInstanceOf(BaseException.class)
+                    .extracting(e -> ((BaseException) e).getStatus())
+                    .isEqualTo(BaseResponseStatus.TOO_MANY_CONCURRENT_REQUESTS);
+            assertThat(loads).hasValue(1);
+        } finally {
+            releaseLeader.countDown();
+        }
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    }
+
+    @Test
+    void followerTimeoutLoadsWhenConfigured() throws Exception {
+        SingleFlight<String, String> singleFlight =
+                new SingleFlight<>("test", 50, SingleFlight.OnTimeout.LOAD, new SimpleMeterRegistry());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return "value";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThat(singleFlight.execute("key", () -> "follower")).isEqualTo("follower");
+        } finally {
+            releaseLeader.countDown();
+        }
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    }
+
+    // follower 가 진행 중인 호출에 합쳐진 뒤에 leader 를 풀어야 follower 가 직접 leader 가 되지 않는다.
+    private static void waitUntilFollowerJoins(SingleFlight<?, ?> singleFlight) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (singleFlight.coalescingRatio() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(singleFlight.coalescingRatio()).isPositive();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
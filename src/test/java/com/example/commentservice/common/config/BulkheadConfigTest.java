@@ -0,0 +1,124 @@
+package com.example.commentservice.common.config;
+
+import com.example.commentservice.common.concurrent.Bulkhead;
+import com.example.commentservice.common.exception.BaseException;
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.infrastructure.CommentCustomRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.CollectionCallback;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MongoTemplate bulkhead 가 핸들을 돌려주는 호출도 실제 I/O 구간 동안 허용량을 잡는지 검증한다.
+ */
+class BulkheadConfigTest {
+
+    private static final String POST_UUID = "post-1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Bulkhead bulkhead = new Bulkhead("mongo", 1, 50, meterRegistry);
+    private MongoTemplate target;
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        target = mock(MongoTemplate.class);
+        when(target.getConverter()).thenReturn(
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        mongoTemplate = BulkheadConfig.bulkheadedMongoTemplate(target, () -> bulkhead);
+    }
+
+    @Test
+    void saturatedBulkheadRejectsCommentViewQuery() {
+        when(target.execute(eq("comment"), any(CollectionCallback.class))).thenReturn(List.of());
+        CommentCustomRepositoryImpl repository = new CommentCustomRepositoryImpl(mongoTemplate);
+
+        bulkhead.acquire();
+        assertThatThrownBy(() -> repository.findCommentViewsByPostUuid(POST_UUID, PageRequest.of(0, 10)))
+                .isInstanceOf(BaseException.class);
+        verify(target, never()).execute(anyString(), any(CollectionCallback.class));
+
+        bulkhead.release();
+        assertThat(repository.findCommentViewsByPostUuid(POST_UUID, PageRequest.of(0, 10))).isEmpty();
+        verify(target).execute(eq("comment"), any(CollectionCallback.class));
+    }
+
+    @Test
+    void commentViewQueryHoldsPermitWhileReadingCursor() {
+        AtomicReference<Double> inUseWhileReading = new AtomicReference<>();
+        when(target.execute(eq("comment"), any(CollectionCallback.class))).thenAnswer(invocation -> {
+            inUseWhileReading.set(inUse());
+            return List.of();
+        });
+        CommentCustomRepositoryImpl repository = new CommentCustomRepositoryImpl(mongoTemplate);
+
+        repository.findCommentViewsByPostUuid(POST_UUID, PageRequest.of(0, 10));
+
+        assertThat(inUseWhileReading).hasValue(1.0);
+        assertThat(inUse()).isZero();
+    }
+
+    @Test
+    void bulkOperationsTakePermitOnlyOnExecute() {
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        when(target.bulkOps(any(BulkOperations.BulkMode.class), eq(Comment.class))).thenReturn(bulkOperations);
+
+        bulkhead.acquire();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Comment.class);
+        bulkOps.insert(List.of());
+        assertThatThrownBy(bulkOps::execute).isInstanceOf(BaseException.class);
+        verify(bulkOperations, never()).execute();
+
+        bulkhead.release();
+        bulkOps.execute();
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    void streamHoldsPermitUntilClosed() {
+        when(target.stream(any(Query.class), eq(Comment.class))).thenReturn(Stream.empty());
+
+        try (Stream<Comment> comments = mongoTemplate.stream(new Query(), Comment.class)) {
+            assertThat(inUse()).isEqualTo(1.0);
+            assertThat(comments).isEmpty();
+        }
+
+        assertThat(inUse()).isZero();
+    }
+
+    @Test
+    void metadataCallsAreNotRejectedWhenSaturated() {
+        when(target.getCollectionName(Comment.class)).thenReturn("comment");
+
+        bulkhead.acquire();
+
+        assertThat(mongoTemplate.getConverter()).isNotNull();
+        assertThat(mongoTemplate.getCollectionName(Comment.class)).isEqualTo("comment");
+    }
+
+    private double inUse() {
+        return meterRegistry.get("bulkhead.in-use").gauge().value();
+    }
+}
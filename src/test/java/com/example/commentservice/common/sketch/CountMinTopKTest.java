@@ -0,0 +1,102 @@
+package com.example.commentservice.common.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추정치의 상 / 하한, decay, 후보 진입 기준을 검증한다.
+ */
+class CountMinTopKTest {
+
+    @Test
+    void estimateNeverUndercountsAndStaysWithinSketchError() {
+        int width = 256;
+        CountMinTopK<String> sketch = new CountMinTopK<>(4, width, 10);
+        Map<String, Long> actual = new HashMap<>();
+        long total = 0;
+        for (int i = 0; i < 2_000; i++) {
+            String key = "post-" + i;
+            int hits = i % 50 + 1;
+            for (int hit = 0; hit < hits; hit++) {
+                sketch.add(key);
+            }
+            actual.put(key, (long) hits);
+            total += hits;
+        }
+
+        long overestimate = 0;
+        for (Map.Entry<String, Long> entry : actual.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertThat(estimate).isGreaterThanOrEqualTo(entry.getValue());
+            overestimate += estimate - entry.getValue();
+        }
+        // 행 하나의 기대 오차가 total / width 이고 추정치는 행들 중 최솟값이므로 평균 오차는 그보다 작아야 한다.
+        assertThat((double) overestimate / actual.size()).isLessThanOrEqualTo((double) total / width);
+    }
+
+    @Test
+    void heavyHitterIsReportedFirst() {
+        CountMinTopK<String> sketch = new CountMinTopK<>(4, 1024, 3);
+        for (int i = 0; i < 500; i++) {
+            sketch.add("hot");
+            sketch.add("noise-" + i);
+        }
+
+        List<Map.Entry<String, Long>> top = sketch.topK(100);
+
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0).getKey()).isEqualTo("hot");
+        assertThat(top.get(0).getValue()).isGreaterThanOrEqualTo(500);
+    }
+
+    @Test
+    void decayHalvesCountersCandidatesAndAdmissionFloor() {
+        CountMinTopK<String> sketch = new CountMinTopK<>(4, 1024, 2);
+        for (int i = 0; i < 100; i++) {
+            sketch.add("a");
+        }
+        fillPastPruneLimit(sketch);
+        long floor = sketch.admissionFloor();
+
+        sketch.decay();
+
+        assertThat(sketch.estimate("a")).isEqualTo(50);
+        assertThat(sketch.topK(0)).first().satisfies(entry -> {
+            assertThat(entry.getKey()).isEqualTo("a");
+            assertThat(entry.getValue()).isEqualTo(50);
+        });
+        assertThat(sketch.admissionFloor()).isEqualTo(floor >> 1);
+    }
+
+    @Test
+    void longTailKeysAreNotAdmittedOnceTopKIsEstablished() {
+        CountMinTopK<String> sketch = new CountMinTopK<>(4, 1024, 2);
+        for (int i = 0; i < 100; i++) {
+            sketch.add("a");
+            sketch.add("b");
+        }
+        fillPastPruneLimit(sketch);
+        assertThat(sketch.admissionFloor()).isGreaterThanOrEqualTo(100);
+        int candidatesAfterPrune = sketch.candidateCount();
+
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add("tail-" + i);
+        }
+
+        assertThat(sketch.candidateCount()).isEqualTo(candidatesAfterPrune);
+        assertThat(sketch.topK(0)).extracting(Map.Entry::getKey).containsExactlyInAnyOrder("a", "b");
+    }
+
+    // 후보 상한(k * 4)의 두 배를 넘겨 정리와 진입 기준 설정이 한 번 일어나게 한다.
+    private static void fillPastPruneLimit(CountMinTopK<String> sketch) {
+        int i = 0;
+        while (sketch.admissionFloor() == 0) {
+            sketch.add("fill-" + i++);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * write-behind 좋아요 카운터의 flush 가 증감을 잃거나 두 번 반영하지 않는지 검증한다.
+ */
+class BufferedCommentLikeCounterTest {
+
+    private static final String COMMENT_UUID = "comment-1";
+    private static final String POST_UUID = "post-1";
+
+    private CommentRepository commentRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private final Map<String, Long> written = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        Comment comment = mock(Comment.class);
+        when(comment.getPostUuid()).thenReturn(POST_UUID);
+        when(comment.getLikeCount()).thenReturn(5L);
+        when(commentRepository.findLikeCountByCommentUuid(anyString())).thenReturn(Optional.of(comment));
+        when(commentRepository.findPostUuidsByCommentUuids(anyCollection())).thenReturn(Set.of(POST_UUID));
+        doAnswer(invocation -> {
+            Collection<Map.Entry<String, Long>> deltas = invocation.getArgument(0);
+            deltas.forEach(entry -> written.merge(entry.getKey(), entry.getValue(), Long::sum));
+            return null;
+        }).when(commentRepository).incrementLikeCounts(anyCollection());
+    }
+
+    @Test
+    void flushWritesAccumulatedDeltaAndPublishesLikeChanged() {
+        BufferedCommentLikeCounter counter = counter(60_000);
+
+        counter.increment(COMMENT_UUID, 1);
+        counter.increment(COMMENT_UUID, 1);
+        counter.increment(COMMENT_UUID, -1);
+        assertThat(counter.getLikeCount(COMMENT_UUID)).isEqualTo(6);
+        assertThat(counter.hasPendingDelta(COMMENT_UUID)).isTrue();
+
+        counter.flush();
+
+        assertThat(written).containsExactly(Map.entry(COMMENT_UUID, 1L));
+        assertThat(counter.hasPendingDelta(COMMENT_UUID)).isFalse();
+        verify(eventPublisher).publishEvent(
+                new CommentChangedEvent(POST_UUID, null, CommentChangedEvent.Type.LIKE_CHANGED));
+        // 캐시에 게시글 UUID 가 있으므로 따로 조회하지 않는다.
+        verify(commentRepository, never()).findPostUuidsByCommentUuids(anyCollection());
+    }
+
+    @Test
+    void failedChunkIsRequeuedAndWrittenOnce() {
+        BufferedCommentLikeCounter counter = counter(60_000);
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("mongo down");
+            }
+            Collection<Map.Entry<String, Long>> deltas = invocation.getArgument(0);
+            deltas.forEach(entry -> written.merge(entry.getKey(), entry.getValue(), Long::sum));
+            return null;
+        }).when(commentRepository).incrementLikeCounts(anyCollection());
+
+        counter.increment(COMMENT_UUID, 1);
+        counter.increment(COMMENT_UUID, 1);
+        counter.flush();
+
+        // 실패한 chunk 는 다시 대기 중인 증감으로 돌아가 조회에도 계속 반영된다.
+        assertThat(written).isEmpty();
+        assertThat(counter.hasPendingDelta(COMMENT_UUID)).isTrue();
+        assertThat(counter.getLikeCount(COMMENT_UUID)).isEqualTo(7);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        counter.flush();
+        counter.flush();
+
+        assertThat(written).containsExactly(Map.entry(COMMENT_UUID, 2L));
+        assertThat(counter.hasPendingDelta(COMMENT_UUID)).isFalse();
+    }
+
+    @Test
+    void flushResolvesPostOfCommentEvictedFromCache() {
+        // 음수 staleness 로 매번 다시 읽게 해, 조회 시점에 댓글이 사라지면 캐시에서도 빠지도록 한다.
+        BufferedCommentLikeCounter counter = counter(-1);
+        counter.increment(COMMENT_UUID, 1);
+        doReturn(Optional.empty()).when(commentRepository).findLikeCountByCommentUuid(COMMENT_UUID);
+        counter.getLikeCount(COMMENT_UUID);
+
+        counter.flush();
+
+        assertThat(written).containsExactly(Map.entry(COMMENT_UUID, 1L));
+        verify(commentRepository).findPostUuidsByCommentUuids(List.of(COMMENT_UUID));
+        verify(eventPublisher).publishEvent(
+                new CommentChangedEvent(POST_UUID, null, CommentChangedEvent.Type.LIKE_CHANGED));
+    }
+
+    @Test
+    void noDeltaIsLostWhileFlushingAndRetiringConcurrently() throws Exception {
+        BufferedCommentLikeCounter counter = counter(60_000);
+        int threads = 8;
+        int incrementsPerThread = 5_000;
+        int comments = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger(threads);
+
+        try {
+            // 같은 댓글이 증감 없이 한 번 flush 되면 카운터가 정리(retire)되므로, 증가와 flush 를 계속 섞는다.
+            Future<?> flusher = executor.submit(() -> {
+                await(start);
+                while (running.get() > 0) {
+                    counter.flush();
+                }
+            });
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                executor.submit(() -> {
+                    await(start);
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        counter.increment("comment-" + ((i + offset) % comments), 1);
+                    }
+                    running.decrementAndGet();
+                });
+            }
+            start.countDown();
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 마지막 flush 에서 정리된 카운터에 남은 값은 그다음 flush 에서 반영된다.
+        counter.flush();
+        counter.flush();
+
+        assertThat(written.values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo((long) threads * incrementsPerThread);
+        for (int i = 0; i < comments; i++) {
+            assertThat(counter.hasPendingDelta("comment-" + i)).isFalse();
+        }
+    }
+
+    private BufferedCommentLikeCounter counter(long maxStalenessMs) {
+        return new BufferedCommentLikeCounter(
+                commentRepository, eventPublisher, mock(CommentDetailCache.class), 10_000, maxStalenessMs);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
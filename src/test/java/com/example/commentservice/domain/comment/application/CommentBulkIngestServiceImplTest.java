@@ -0,0 +1,197 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.client.post.PostExistenceCache;
+import com.example.commentservice.common.exception.BaseException;
+import com.example.commentservice.common.response.BaseResponseStatus;
+import com.example.commentservice.domain.comment.dto.out.CommentBulkCreateFailureResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentBulkCreateResDto;
+import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 일괄 등록의 항목 단위 읽기, 실패 위치(index) 기록, max-items 절단, chunk 저장 실패 처리를 검증한다.
+ */
+class CommentBulkIngestServiceImplTest {
+
+    private static final String POST_UUID = "post-1";
+    private static final String VALID = "{\"postUuid\":\"post-1\",\"memberUuid\":\"member-1\",\"content\":\"hello\"}";
+    private static final String BLANK_CONTENT = "{\"postUuid\":\"post-1\",\"memberUuid\":\"member-1\",\"content\":\" \"}";
+
+    private CommentRepository commentRepository;
+    private PostCommentCountRepository postCommentCountRepository;
+    private CommentBulkIngestService service;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        postCommentCountRepository = mock(PostCommentCountRepository.class);
+        PostExistenceCache postExistenceCache = mock(PostExistenceCache.class);
+        when(postExistenceCache.exists(anyString())).thenReturn(true);
+        when(commentRepository.insertAllUnordered(anyList())).thenReturn(Map.of());
+        service = new CommentBulkIngestServiceImpl(
+                commentRepository, postCommentCountRepository, postExistenceCache,
+                mock(ApplicationEventPublisher.class), new ObjectMapper(), 2, 5);
+    }
+
+    @Test
+    void invalidElementInArrayIsRecordedAndReadingContinues() {
+        CommentBulkCreateResDto result = service.ingestJsonArray(json("[" + VALID + ", 123, " + BLANK_CONTENT
+                + ", {\"postUuid\":\"post-1\",\"unknown\":1}, " + VALID + "]"));
+
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.isTruncated()).isFalse();
+        assertThat(result.getFailures())
+                .extracting(CommentBulkCreateFailureResDto::getIndex, CommentBulkCreateFailureResDto::getCode)
+                .containsExactly(
+                        tuple(1L, BaseResponseStatus.INVALID_BULK_COMMENT_ITEM.getCode()),
+                        tuple(2L, BaseResponseStatus.INVALID_BULK_COMMENT_ITEM.getCode()),
+                        tuple(3L, BaseResponseStatus.INVALID_BULK_COMMENT_ITEM.getCode()));
+    }
+
+    @Test
+    void syntaxErrorMidArrayStopsAtThatIndexAndKeepsEarlierItems() {
+        CommentBulkCreateResDto result = service.ingestJsonArray(json("[" + VALID + ", " + VALID + ", {\"postUuid\": ]"));
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailures()).singleElement().satisfies(failure -> {
+            assertThat(failure.getIndex()).isEqualTo(2);
+            assertThat(failure.getCode()).isEqualTo(BaseResponseStatus.INVALID_BULK_COMMENT_ITEM.getCode());
+        });
+    }
+
+    @Test
+    void unterminatedArrayIsRecordedAsInvalidItem() {
+        CommentBulkCreateResDto result = service.ingestJsonArray(json("[" + VALID + ", "));
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailures()).extracting(CommentBulkCreateFailureResDto::getIndex).containsExactly(1L);
+    }
+
+    @Test
+    void bodyThatIsNotArrayIsRejected() {
+        assertThatThrownBy(() -> service.ingestJsonArray(json(VALID)))
+                .isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    void arrayBeyondMaxItemsIsTruncatedAtFirstUnreadIndex() {
+        CommentBulkCreateResDto result = service.ingestJsonArray(json(array(7)));
+
+        assertThat(result.isTruncated()).isTrue();
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getSucceeded()).isEqualTo(5);
+        assertThat(result.getFailures()).singleElement().satisfies(failure -> {
+            assertThat(failure.getIndex()).isEqualTo(5);
+            assertThat(failure.getCode()).isEqualTo(BaseResponseStatus.TOO_MANY_BULK_COMMENTS.getCode());
+        });
+    }
+
+    @Test
+    void arrayOfExactlyMaxItemsIsNotTruncated() {
+        CommentBulkCreateResDto result = service.ingestJsonArray(json(array(5)));
+
+        assertThat(result.isTruncated()).isFalse();
+        assertThat(result.getSucceeded()).isEqualTo(5);
+        assertThat(result.getFailures()).isEmpty();
+    }
+
+    @Test
+    void ndjsonBlankLinesDoNotTakeIndexes() {
+        CommentBulkCreateResDto result = service.ingestNdjson(ndjson(
+                VALID, "", "{not json", "   ", VALID));
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting(CommentBulkCreateFailureResDto::getIndex).containsExactly(1L);
+    }
+
+    @Test
+    void ndjsonBeyondMaxItemsIsTruncatedButTrailingBlankLinesAreNot() {
+        CommentBulkCreateResDto truncated = service.ingestNdjson(ndjson(VALID, VALID, VALID, VALID, VALID, "", VALID));
+        assertThat(truncated.isTruncated()).isTrue();
+        assertThat(truncated.getFailures()).extracting(CommentBulkCreateFailureResDto::getIndex).containsExactly(5L);
+
+        CommentBulkCreateResDto complete = service.ingestNdjson(ndjson(VALID, VALID, VALID, VALID, VALID, "", " "));
+        assertThat(complete.isTruncated()).isFalse();
+        assertThat(complete.getFailures()).isEmpty();
+    }
+
+    @Test
+    void partialBulkFailureIsMappedToRequestIndexes() {
+        // chunk 1 = 요청 index [0, 2] (index 1 은 검증 실패), chunk 1 의 두 번째 문서가 중복 키로 실패한다.
+        when(commentRepository.insertAllUnordered(anyList()))
+                .thenReturn(Map.of(1, "E11000 duplicate key"))
+                .thenReturn(Map.of());
+
+        CommentBulkCreateResDto result = service.ingestJsonArray(json(
+                "[" + VALID + ", " + BLANK_CONTENT + ", " + VALID + ", " + VALID + "]"));
+
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailures())
+                .extracting(CommentBulkCreateFailureResDto::getIndex, CommentBulkCreateFailureResDto::getCode)
+                .containsExactly(
+                        tuple(1L, BaseResponseStatus.INVALID_BULK_COMMENT_ITEM.getCode()),
+                        tuple(2L, BaseResponseStatus.FAILED_TO_INSERT_COMMENT.getCode()));
+        // 두 chunk 모두 저장된 댓글 1건씩만 카운터에 반영한다.
+        verify(postCommentCountRepository, times(2)).completeRootCommentChanges(Map.of(POST_UUID, 1L));
+    }
+
+    @Test
+    void chunkThatFailsAsAWholeIsRecordedAndLaterChunksAreStored() {
+        when(commentRepository.insertAllUnordered(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("socket timeout"))
+                .thenReturn(Map.of());
+
+        CommentBulkCreateResDto result = service.ingestJsonArray(json(array(4)));
+
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailures())
+                .extracting(CommentBulkCreateFailureResDto::getIndex, CommentBulkCreateFailureResDto::getCode)
+                .containsExactly(
+                        tuple(0L, BaseResponseStatus.FAILED_TO_INSERT_COMMENT.getCode()),
+                        tuple(1L, BaseResponseStatus.FAILED_TO_INSERT_COMMENT.getCode()));
+        verify(postCommentCountRepository).abortCountChanges(Set.of(POST_UUID));
+        verify(postCommentCountRepository).completeRootCommentChanges(Map.of(POST_UUID, 2L));
+    }
+
+    private static String array(int size) {
+        return IntStream.range(0, size).mapToObj(i -> VALID).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BufferedReader ndjson(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", List.of(lines))));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.client.post.PostExistenceCache;
+import com.example.commentservice.domain.comment.dto.in.CommentLikeReqDto;
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.infrastructure.CommentLikeRepository;
+import com.example.commentservice.domain.comment.infrastructure.CommentRepository;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * write-behind 좋아요 카운터를 켠 상태에서 단건 조회 캐시가 flush 이후의 좋아요 수를 응답하는지 검증한다.
+ */
+class CommentLikeDetailCacheTest {
+
+    private static final String COMMENT_UUID = "comment-1";
+    private static final String POST_UUID = "post-1";
+    private static final String MEMBER_UUID = "member-1";
+
+    private final AtomicLong storedLikeCount = new AtomicLong(5);
+    private CommentLikeCounter commentLikeCounter;
+    private CommentLikeService commentLikeService;
+    private CommentService commentService;
+
+    @BeforeEach
+    void setUp() {
+        CommentRepository commentRepository = mock(CommentRepository.class);
+        CommentLikeRepository commentLikeRepository = mock(CommentLikeRepository.class);
+        Comment comment = mock(Comment.class);
+        when(comment.getPostUuid()).thenReturn(POST_UUID);
+        when(comment.getLikeCount()).thenAnswer(invocation -> storedLikeCount.get());
+        when(commentRepository.findLikeCountByCommentUuid(COMMENT_UUID)).thenReturn(Optional.of(comment));
+        when(commentRepository.findCommentViewByCommentUuid(COMMENT_UUID)).thenAnswer(invocation ->
+                Optional.of(CommentResDto.builder()
+                        .commentUuid(COMMENT_UUID)
+                        .postUuid(POST_UUID)
+                        .likeCount(storedLikeCount.get())
+                        .build()));
+        doAnswer(invocation -> {
+            Collection<Map.Entry<String, Long>> deltas = invocation.getArgument(0);
+            deltas.forEach(entry -> storedLikeCount.addAndGet(entry.getValue()));
+            return null;
+        }).when(commentRepository).incrementLikeCounts(anyCollection());
+        when(commentLikeRepository.insertIfAbsent(COMMENT_UUID, MEMBER_UUID)).thenReturn(true);
+
+        CommentDetailCache commentDetailCache = new CommentDetailCache(new SimpleMeterRegistry(), 100, 60);
+        commentLikeCounter = new BufferedCommentLikeCounter(
+                commentRepository, mock(ApplicationEventPublisher.class), commentDetailCache, 10_000, 60_000);
+        commentLikeService = new CommentLikeServiceImpl(commentLikeRepository, commentLikeCounter, commentDetailCache);
+        commentService = new CommentServiceImpl(
+                commentRepository, commentLikeRepository, mock(PostCommentCountRepository.class),
+                mock(PostExistenceCache.class), commentDetailCache, mock(CommentListCache.class),
+                mock(HotPostTracker.class), mock(CommentReadCoalescer.class), mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void detailIsReloadedAfterLikeIsFlushed() {
+        assertThat(commentService.getCommentByCommentUuid(COMMENT_UUID).getLikeCount()).isEqualTo(5);
+
+        commentLikeService.likeComment(CommentLikeReqDto.of(COMMENT_UUID, MEMBER_UUID));
+
+        // flush 전에는 Mongo 에 반영된 값으로 다시 채워진다.
+        assertThat(commentService.getCommentByCommentUuid(COMMENT_UUID).getLikeCount()).isEqualTo(5);
+
+        commentLikeCounter.flush();
+
+        assertThat(storedLikeCount).hasValue(6);
+        assertThat(commentService.getCommentByCommentUuid(COMMENT_UUID).getLikeCount()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 목록 캐시가 변경 이벤트와 게시글 목록 version 에 따라 페이지를 다시 읽는지 검증한다.
+ */
+class CommentListCacheTest {
+
+    private static final String POST_UUID = "post-1";
+    private static final String OTHER_POST_UUID = "post-2";
+    private static final CommentSortType SORT = CommentSortType.RECENT;
+
+    private HotPostTracker hotPostTracker;
+    private CommentListCache commentListCache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<CommentListPageResDto> loader = () -> {
+        loads.incrementAndGet();
+        return CommentListPageResDto.builder().comments(List.of()).build();
+    };
+
+    @BeforeEach
+    void setUp() {
+        hotPostTracker = mock(HotPostTracker.class);
+        commentListCache = new CommentListCache(
+                new SimpleMeterRegistry(), hotPostTracker, mock(PostCommentCountRepository.class),
+                1_048_576, 60, 2, true);
+    }
+
+    @ParameterizedTest
+    @EnumSource(CommentChangedEvent.Type.class)
+    void everyChangeTypeInvalidatesCachedPagesOfPost(CommentChangedEvent.Type type) {
+        commentListCache.get(POST_UUID, SORT, 0, 1, loader);
+        commentListCache.get(POST_UUID, SORT, 1, 1, loader);
+        commentListCache.get(POST_UUID, SORT, 0, 1, loader);
+        assertThat(loads).hasValue(2);
+
+        commentListCache.onCommentChanged(new CommentChangedEvent(POST_UUID, "comment-1", type));
+
+        commentListCache.get(POST_UUID, SORT, 0, 1, loader);
+        commentListCache.get(POST_UUID, SORT, 1, 1, loader);
+        assertThat(loads).hasValue(4);
+    }
+
+    @ParameterizedTest
+    @EnumSource(CommentChangedEvent.Type.class)
+    void everyChangeTypeInvalidatesPinnedPagesOfHotPost(CommentChangedEvent.Type type) {
+        when(hotPostTracker.isHot(POST_UUID)).thenReturn(true);
+        commentListCache.get(POST_UUID, SORT, 0, 1, loader);
+        commentListCache.get(POST_UUID, SORT, 0, 1, loader);
+        assertThat(loads).hasValue(1);
+
+        commentListCache.onCommentChanged(new CommentChangedEvent(POST_UUID, null, type));
+
+        commentListCache.get(POST_UUID, SORT, 0, 1, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void changeOfOtherPostOrWithoutPostKeepsCachedPage() {
+        commentListCache.get(POST_UUID, SORT, 0, 1, loader);
+
+        commentListCache.onCommentChanged(
+                new CommentChangedEvent(OTHER_POST_UUID, "comment-1", CommentChangedEvent.Type.CREATED));
+        commentListCache.onCommentChanged(new CommentChangedEvent(null, "comment-1", CommentChangedEvent.Type.UPDATED));
+
+        commentListCache.get(POST_UUID, SORT, 0, 1, loader);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void pageReadBeforeNewerVersionIsNotServed() {
+        commentListCache.get(POST_UUID, SORT, 0, 1, loader);
+
+        // 다른 인스턴스의 변경은 이벤트 없이 version 으로만 알 수 있다.
+        commentListCache.get(POST_UUID, SORT, 0, 2, loader);
+        commentListCache.get(POST_UUID, SORT, 0, 2, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void pagesAfterCachedPagesAreAlwaysLoaded() {
+        commentListCache.get(POST_UUID, SORT, 2, 1, loader);
+        commentListCache.get(POST_UUID, SORT, 2, 1, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.commentservice.domain.comment.application;
+
+import com.example.commentservice.domain.comment.event.CommentChangedEvent;
+import com.example.commentservice.domain.comment.infrastructure.PostCommentCountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 댓글 수가 바뀌지 않는 변경에만 목록 version 을 올리는지 검증한다.
+ */
+class PostCommentVersionTrackerTest {
+
+    private final PostCommentCountRepository postCommentCountRepository = mock(PostCommentCountRepository.class);
+    private final PostCommentVersionTracker tracker = new PostCommentVersionTracker(postCommentCountRepository);
+
+    @ParameterizedTest
+    @EnumSource(value = CommentChangedEvent.Type.class, names = {"UPDATED", "LIKE_CHANGED"})
+    void touchesVersionWhenCountIsUnchanged(CommentChangedEvent.Type type) {
+        tracker.onCommentChanged(new CommentChangedEvent("post-1", "comment-1", type));
+
+        verify(postCommentCountRepository).touch("post-1");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CommentChangedEvent.Type.class, names = {"CREATED", "DELETED"})
+    void skipsChangesThatAlreadyIncrementVersion(CommentChangedEvent.Type type) {
+        tracker.onCommentChanged(new CommentChangedEvent("post-1", "comment-1", type));
+
+        verify(postCommentCountRepository, never()).touch(any());
+    }
+
+    @Test
+    void touchFailureDoesNotPropagate() {
+        doThrow(new IllegalStateException("mongo down")).when(postCommentCountRepository).touch("post-1");
+
+        tracker.onCommentChanged(new CommentChangedEvent("post-1", "comment-1", CommentChangedEvent.Type.LIKE_CHANGED));
+
+        verify(postCommentCountRepository).touch("post-1");
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * unordered bulk insert 의 부분 실패가 목록 내 위치와 사유로 옮겨지는지 검증한다.
+ */
+class CommentBulkInsertTest {
+
+    private BulkOperations bulkOperations;
+    private CommentCustomRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.getConverter()).thenReturn(
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(Comment.class))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        repository = new CommentCustomRepositoryImpl(mongoTemplate);
+    }
+
+    @Test
+    void partialBulkFailureReturnsFailedPositions() {
+        BulkOperationException exception = mock(BulkOperationException.class);
+        when(exception.getErrors()).thenReturn(List.of(
+                new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1),
+                new BulkWriteError(121, "Document failed validation", new BsonDocument(), 3)));
+        when(bulkOperations.execute()).thenThrow(exception);
+
+        assertThat(repository.insertAllUnordered(comments(4)))
+                .containsOnlyKeys(1, 3)
+                .containsEntry(1, "E11000 duplicate key");
+    }
+
+    @Test
+    void successfulBulkInsertReturnsNoFailures() {
+        assertThat(repository.insertAllUnordered(comments(2))).isEmpty();
+    }
+
+    private static List<Comment> comments(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> Comment.builder()
+                        .commentUuid("comment-" + i)
+                        .postUuid("post-1")
+                        .memberUuid("member-1")
+                        .content("content")
+                        .build())
+                .toList();
+    }
+}
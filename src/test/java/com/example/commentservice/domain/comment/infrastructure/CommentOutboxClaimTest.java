@@ -0,0 +1,125 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.CommentOutboxEvent;
+import com.example.commentservice.domain.comment.entity.CommentOutboxEventType;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * outbox 선점(lease) / 완료 / lease 만료 후 재선점 흐름을 실제 Mongo 에서 검증한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CommentOutboxClaimTest {
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static CommentCustomRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "learn_run_comment");
+        repository = new CommentCustomRepositoryImpl(mongoTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.remove(new Query(), Comment.class);
+    }
+
+    @Test
+    void claimedCommentsAreNotClaimedAgainWhileLeaseIsHeld() {
+        Comment comment = insertWithOutbox(CommentOutboxEventType.CREATED);
+
+        List<Comment> first = repository.claimPendingOutbox("relay-a", LocalDateTime.now().plusSeconds(30), 10);
+        List<Comment> second = repository.claimPendingOutbox("relay-b", LocalDateTime.now().plusSeconds(30), 10);
+
+        assertThat(first).extracting(Comment::getId).containsExactly(comment.getId());
+        assertThat(first.get(0).getOutbox()).hasSize(1);
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    void completeRemovesOnlySentEventsAndReleasesLease() {
+        Comment comment = insertWithOutbox(CommentOutboxEventType.CREATED, CommentOutboxEventType.DELETED);
+        List<CommentOutboxEvent> events = comment.getOutbox();
+
+        repository.claimPendingOutbox("relay-a", LocalDateTime.now().plusSeconds(30), 10);
+        repository.completeOutbox("relay-a", Map.of(comment.getId(), List.of(events.get(0).getEventId())));
+
+        Comment stored = mongoTemplate.findById(comment.getId(), Comment.class);
+        assertThat(stored.getOutbox()).extracting(CommentOutboxEvent::getEventId)
+                .containsExactly(events.get(1).getEventId());
+        assertThat(stored.getOutboxClaimToken()).isNull();
+        assertThat(stored.getOutboxLeaseUntil()).isNull();
+        assertThat(stored.getOutboxPendingAt()).isNotNull();
+
+        // 남은 이벤트는 lease 가 해제되었으므로 바로 다시 선점된다.
+        List<Comment> reclaimed = repository.claimPendingOutbox("relay-b", LocalDateTime.now().plusSeconds(30), 10);
+        assertThat(reclaimed).extracting(Comment::getId).containsExactly(comment.getId());
+
+        repository.completeOutbox("relay-b", Map.of(comment.getId(), List.of(events.get(1).getEventId())));
+        Comment drained = mongoTemplate.findById(comment.getId(), Comment.class);
+        assertThat(drained.getOutbox()).isNullOrEmpty();
+        assertThat(drained.getOutboxPendingAt()).isNull();
+        assertThat(repository.claimPendingOutbox("relay-c", LocalDateTime.now().plusSeconds(30), 10)).isEmpty();
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndStaleOwnerCannotComplete() {
+        Comment comment = insertWithOutbox(CommentOutboxEventType.CREATED);
+        String eventId = comment.getOutbox().get(0).getEventId();
+
+        // relay-a 가 lease 안에 끝내지 못한 상황
+        repository.claimPendingOutbox("relay-a", LocalDateTime.now().minusSeconds(1), 10);
+        List<Comment> reclaimed = repository.claimPendingOutbox("relay-b", LocalDateTime.now().plusSeconds(30), 10);
+        assertThat(reclaimed).extracting(Comment::getId).containsExactly(comment.getId());
+
+        // 늦게 끝난 relay-a 의 완료 처리는 relay-b 의 선점을 건드리지 않는다.
+        repository.completeOutbox("relay-a", Map.of(comment.getId(), List.of(eventId)));
+        Comment stored = mongoTemplate.findById(comment.getId(), Comment.class);
+        assertThat(stored.getOutbox()).hasSize(1);
+        assertThat(stored.getOutboxClaimToken()).isEqualTo("relay-b");
+
+        repository.completeOutbox("relay-b", Map.of(comment.getId(), List.of(eventId)));
+        assertThat(mongoTemplate.findById(comment.getId(), Comment.class).getOutboxPendingAt()).isNull();
+    }
+
+    private static Comment insertWithOutbox(CommentOutboxEventType... types) {
+        Comment comment = Comment.builder()
+                .commentUuid(UUID.randomUUID().toString())
+                .postUuid("post-1")
+                .memberUuid("member-1")
+                .content("content")
+                .build();
+        for (CommentOutboxEventType type : types) {
+            comment.addOutboxEvent(CommentOutboxEvent.of(type));
+        }
+        return mongoTemplate.insert(comment);
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.common.mongo.MongoIndexDrift;
+import com.example.commentservice.common.mongo.MongoIndexInitializer;
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.CommentCursor;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 조회 쿼리가 선언된 인덱스를 타고, 메모리 정렬(SORT) 없이 실행되는지 explain 으로 검증한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CommentQueryPlanTest {
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final String POST_UUID = "post-0";
+    private static final int POST_COUNT = 5;
+    private static final int COMMENTS_PER_POST = 300;
+    private static final int THREAD_COUNT = 20;
+    private static final int REPLIES_PER_THREAD = 15;
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static MongoCollection<Document> collection;
+    private static QueryMapper queryMapper;
+    private static MongoPersistentEntity<?> commentEntity;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "learn_run_comment");
+        collection = mongoTemplate.getCollection("comment");
+        queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        commentEntity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(Comment.class);
+
+        List<MongoIndexDrift> drifts = indexInitializer().ensureIndexes();
+        assertThat(drifts).allMatch(drift -> drift.type() == MongoIndexDrift.Type.MISSING);
+
+        long now = Instant.now().toEpochMilli();
+        List<Document> comments = new ArrayList<>();
+        for (int post = 0; post < POST_COUNT; post++) {
+            for (int i = 0; i < COMMENTS_PER_POST; i++) {
+                comments.add(new Document("commentUuid", UUID.randomUUID().toString())
+                        .append("postUuid", "post-" + post)
+                        .append("memberUuid", "member-" + (i % 17))
+                        .append("content", "comment " + i)
+                        .append("blind_status", false)
+                        .append("deleted_status", i % 10 == 0)
+                        .append("likeCount", (long) (i % 23))
+                        .append("created_at", new Date(now - i * 1000L))
+                        .append("updated_at", new Date(now - i * 1000L)));
+            }
+        }
+        collection.insertMany(comments);
+
+        List<Document> replies = new ArrayList<>();
+        for (int thread = 1; thread <= THREAD_COUNT; thread++) {
+            String rootCommentUuid = comments.get(thread).getString("commentUuid");
+            for (int i = 0; i < REPLIES_PER_THREAD; i++) {
+                replies.add(new Document("commentUuid", UUID.randomUUID().toString())
+                        .append("postUuid", POST_UUID)
+                        .append("memberUuid", "member-" + (i % 17))
+                        .append("content", "reply " + i)
+                        .append("blind_status", false)
+                        .append("deleted_status", i % 7 == 0)
+                        .append("likeCount", 0L)
+                        .append("parentCommentUuid", rootCommentUuid)
+                        .append("rootCommentUuid", rootCommentUuid)
+                        .append("created_at", new Date(now + i * 1000L))
+                        .append("updated_at", new Date(now + i * 1000L)));
+            }
+        }
+        collection.insertMany(replies);
+
+        List<Document> commentLikes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            commentLikes.add(new Document("commentUuid", comments.get(i % 50).getString("commentUuid"))
+                    .append("memberUuid", "member-" + i));
+        }
+        mongoTemplate.getCollection("comment_like").insertMany(commentLikes);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @Test
+    void noDriftAfterIndexesAreEnsured() {
+        assertThat(indexInitializer().ensureIndexes()).isEmpty();
+    }
+
+    @Test
+    void recentPageQueryIsSortedByIndex() {
+        Query query = CommentCustomRepositoryImpl.postCommentsQuery(POST_UUID)
+                .with(PageRequest.of(3, 10, CommentSortType.RECENT.getSort()));
+        assertIndexedWithoutSort(explainFind(query));
+    }
+
+    @Test
+    void likePageQueryIsSortedByIndex() {
+        Query query = CommentCustomRepositoryImpl.postCommentsQuery(POST_UUID)
+                .with(PageRequest.of(0, 10, CommentSortType.LIKE.getSort()));
+        assertIndexedWithoutSort(explainFind(query));
+    }
+
+    @Test
+    void pageCountUsesIndex() {
+        Document filter = queryMapper.getMappedObject(
+                CommentCustomRepositoryImpl.postCommentsQuery(POST_UUID).getQueryObject(), commentEntity);
+        Document command = new Document("explain", new Document("aggregate", "comment")
+                .append("pipeline", List.of(
+                        new Document("$match", filter),
+                        new Document("$group", new Document("_id", 1).append("n", new Document("$sum", 1)))))
+                .append("cursor", new Document()))
+                .append("verbosity", "queryPlanner");
+        assertIndexedWithoutSort(mongoTemplate.getDb().runCommand(command));
+    }
+
+    @Test
+    void cursorQuerySeeksByIndexRange() {
+        List<Comment> firstPage = mongoTemplate.find(CommentCustomRepositoryImpl.postCommentsAfterQuery(
+                POST_UUID, null, CommentSortType.RECENT, 11), Comment.class);
+        assertThat(firstPage).hasSize(11);
+
+        CommentCursor cursor = CommentCursor.of(CommentSortType.RECENT, firstPage.get(9));
+        Query nextPage = CommentCustomRepositoryImpl.postCommentsAfterQuery(
+                POST_UUID, cursor, CommentSortType.RECENT, 11);
+
+        assertIndexedWithoutSort(explainFind(nextPage));
+        assertThat(mongoTemplate.find(nextPage, Comment.class).get(0).getCommentUuid())
+                .isEqualTo(firstPage.get(10).getCommentUuid());
+    }
+
+    @Test
+    void replyPreviewAggregateReadsThreadIndexInOrder() {
+        List<String> rootCommentUuids = collection.find(new Document("rootCommentUuid", new Document("$exists", true)))
+                .map(reply -> reply.getString("rootCommentUuid"))
+                .into(new ArrayList<>()).stream().distinct().limit(10).toList();
+        Query query = CommentCustomRepositoryImpl.threadRepliesQuery(rootCommentUuids);
+        Document command = new Document("explain", new Document("aggregate", "comment")
+                .append("pipeline", List.of(
+                        new Document("$match", queryMapper.getMappedObject(query.getQueryObject(), commentEntity)),
+                        new Document("$sort", queryMapper.getMappedSort(query.getSortObject(), commentEntity)),
+                        new Document("$group", new Document("_id", "$rootCommentUuid")
+                                .append("replies", new Document("$firstN",
+                                        new Document("input", "$$ROOT").append("n", 3))))))
+                .append("cursor", new Document()))
+                .append("verbosity", "queryPlanner");
+        assertIndexedWithoutSort(mongoTemplate.getDb().runCommand(command));
+    }
+
+    @Test
+    void replyCursorQuerySeeksByIndexRange() {
+        String rootCommentUuid = collection.find(new Document("rootCommentUuid", new Document("$exists", true)))
+                .first().getString("rootCommentUuid");
+        List<Comment> firstPage = mongoTemplate.find(
+                CommentCustomRepositoryImpl.repliesAfterQuery(rootCommentUuid, null, 6), Comment.class);
+        assertThat(firstPage).hasSize(6);
+
+        CommentCursor cursor = CommentCursor.of(CommentSortType.RECENT, firstPage.get(4));
+        Query nextPage = CommentCustomRepositoryImpl.repliesAfterQuery(rootCommentUuid, cursor, 6);
+
+        assertIndexedWithoutSort(explainFind(nextPage));
+        assertThat(mongoTemplate.find(nextPage, Comment.class).get(0).getCommentUuid())
+                .isEqualTo(firstPage.get(5).getCommentUuid());
+    }
+
+    @Test
+    void commentUuidLookupUsesUniqueIndex() {
+        String commentUuid = collection.find(new Document("deleted_status", false)).first().getString("commentUuid");
+        assertIndexedWithoutSort(explainFind(CommentCustomRepositoryImpl.notDeletedByCommentUuidQuery(commentUuid)));
+    }
+
+    @Test
+    void likedCommentsLookupIsCoveredByIndex() {
+        List<String> commentUuids = collection.find().limit(20).map(comment -> comment.getString("commentUuid"))
+                .into(new ArrayList<>());
+        Document explain = mongoTemplate.getCollection("comment_like")
+                .find(CommentLikeCustomRepositoryImpl.likedCommentsFilter("member-7", commentUuids))
+                .projection(CommentLikeCustomRepositoryImpl.LIKED_COMMENTS_PROJECTION)
+                .explain();
+
+        List<String> stages = new ArrayList<>();
+        collectWinningPlanStages(explain, false, stages);
+        assertIndexedWithoutSort(explain);
+        assertThat(stages).as(explain.toJson()).doesNotContain("FETCH");
+    }
+
+    private static MongoIndexInitializer indexInitializer() {
+        return new MongoIndexInitializer(
+                mongoTemplate, List.of(new CommentIndexDeclaration(), new CommentLikeIndexDeclaration()));
+    }
+
+    private Document explainFind(Query query) {
+        Document filter = queryMapper.getMappedObject(query.getQueryObject(), commentEntity);
+        Document sort = queryMapper.getMappedSort(query.getSortObject(), commentEntity);
+
+        FindIterable<Document> find = collection.find(filter).sort(sort);
+        if (query.getSkip() > 0) {
+            find.skip((int) query.getSkip());
+        }
+        if (query.getLimit() > 0) {
+            find.limit(query.getLimit());
+        }
+        return find.explain();
+    }
+
+    private static void assertIndexedWithoutSort(Document explain) {
+        List<String> stages = new ArrayList<>();
+        collectWinningPlanStages(explain, false, stages);
+
+        assertThat(stages).as(explain.toJson()).isNotEmpty();
+        assertThat(stages).as(explain.toJson()).anyMatch(stage -> stage.contains("IXSCAN") || stage.equals("COUNT_SCAN"));
+        assertThat(stages).as(explain.toJson()).doesNotContain("COLLSCAN", "SORT");
+    }
+
+    private static void collectWinningPlanStages(Object node, boolean inWinningPlan, List<String> stages) {
+        if (node instanceof Document document) {
+            for (Map.Entry<String, Object> entry : document.entrySet()) {
+                if (inWinningPlan && "stage".equals(entry.getKey()) && entry.getValue() instanceof String stage) {
+                    stages.add(stage);
+                } else {
+                    collectWinningPlanStages(entry.getValue(), inWinningPlan || "winningPlan".equals(entry.getKey()), stages);
+                }
+            }
+        } else if (node instanceof List<?> list) {
+            list.forEach(element -> collectWinningPlanStages(element, inWinningPlan, stages));
+        }
+    }
+}
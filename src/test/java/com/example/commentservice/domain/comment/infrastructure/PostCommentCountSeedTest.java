@@ -0,0 +1,136 @@
+package com.example.commentservice.domain.comment.infrastructure;
+
+import com.example.commentservice.domain.comment.entity.Comment;
+import com.example.commentservice.domain.comment.entity.PostCommentCount;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 등록이 집계(seed) 도중에 끼어들어도 카운터가 한 번만 반영되는지 실제 Mongo 에서 검증한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PostCommentCountSeedTest {
+
+    private static final String POST_UUID = "post-1";
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static PostCommentCountCustomRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "learn_run_comment");
+        repository = new PostCommentCountCustomRepositoryImpl(mongoTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.remove(new Query(), Comment.class);
+        mongoTemplate.remove(new Query(), PostCommentCount.class);
+    }
+
+    @Test
+    void seedDoesNotOverwriteWhileCreateIsInFlight() {
+        insertComment();
+        repository.seedFromComments(List.of(POST_UUID));
+
+        // 등록 시작 후 버전을 읽고, 저장된 댓글까지 집계한 뒤, $inc 전에 seed 가 저장을 시도한다.
+        repository.beginCountChange(POST_UUID);
+        Map<String, Long> versions = repository.findCountVersions(List.of(POST_UUID));
+        insertComment();
+        PostCommentCount counted = repository.countFromComments(List.of(POST_UUID), versions).get(POST_UUID);
+        assertThat(counted.getCommentCount()).isEqualTo(2);
+
+        assertThat(repository.seed(counted)).isFalse();
+        repository.completeCountChange(POST_UUID, 1, 1);
+
+        PostCommentCount stored = storedCount();
+        assertThat(stored.getCommentCount()).isEqualTo(2);
+        assertThat(stored.getRootCommentCount()).isEqualTo(2);
+        assertThat(stored.getPendingWrites()).isZero();
+    }
+
+    @Test
+    void seedReadBeforeCreateStartsIsRejected() {
+        insertComment();
+        repository.seedFromComments(List.of(POST_UUID));
+
+        Map<String, Long> versions = repository.findCountVersions(List.of(POST_UUID));
+        repository.beginCountChange(POST_UUID);
+        insertComment();
+        PostCommentCount counted = repository.countFromComments(List.of(POST_UUID), versions).get(POST_UUID);
+        repository.completeCountChange(POST_UUID, 1, 1);
+
+        assertThat(repository.seed(counted)).isFalse();
+        assertThat(storedCount().getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void seedCreatesCounterOnlyWhenNoWriteIsInFlight() {
+        repository.beginCountChange(POST_UUID);
+        insertComment();
+
+        Map<String, PostCommentCount> seeded = repository.seedFromComments(List.of(POST_UUID));
+        assertThat(seeded.get(POST_UUID).getCommentCount()).isEqualTo(1);
+        assertThat(storedCount().isSeeded()).isFalse();
+
+        repository.completeCountChange(POST_UUID, 1, 1);
+        repository.seedFromComments(List.of(POST_UUID));
+
+        PostCommentCount stored = storedCount();
+        assertThat(stored.isSeeded()).isTrue();
+        assertThat(stored.getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void abortedWriteIsReseededFromComments() {
+        insertComment();
+        repository.seedFromComments(List.of(POST_UUID));
+
+        // 저장 결과를 알 수 없는 실패 후에는 다음 조회에서 다시 집계한다.
+        repository.beginCountChange(POST_UUID);
+        insertComment();
+        repository.abortCountChanges(List.of(POST_UUID));
+        assertThat(storedCount().isSeeded()).isFalse();
+
+        repository.seedFromComments(List.of(POST_UUID));
+        assertThat(storedCount().getCommentCount()).isEqualTo(2);
+    }
+
+    private static void insertComment() {
+        mongoTemplate.insert(Comment.builder()
+                .commentUuid(UUID.randomUUID().toString())
+                .postUuid(POST_UUID)
+                .memberUuid("member-1")
+                .content("content")
+                .build());
+    }
+
+    private static PostCommentCount storedCount() {
+        return mongoTemplate.findById(POST_UUID, PostCommentCount.class);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.commentservice.domain.comment.presentation;
+
+import com.example.commentservice.domain.comment.application.CommentService;
+import com.example.commentservice.domain.comment.dto.out.CommentListPageResDto;
+import com.example.commentservice.domain.comment.dto.out.CommentResDto;
+import com.example.commentservice.domain.comment.dto.out.PostCommentVersionResDto;
+import com.example.commentservice.domain.comment.entity.CommentSortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 / 상세 조회의 ETag 와 조건부 요청(304) 처리를 검증한다.
+ */
+class CommentControllerETagTest {
+
+    private static final String POST_UUID = "post-1";
+    private static final String COMMENT_UUID = "comment-1";
+    private static final String MEMBER_UUID = "member-1";
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private CommentService commentService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        commentService = mock(CommentService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new CommentController(commentService)).build();
+        when(commentService.getCommentsByPostUuid(
+                eq(POST_UUID), anyInt(), any(CommentSortType.class), any(), any()))
+                .thenReturn(CommentListPageResDto.builder().comments(List.of()).build());
+    }
+
+    @Test
+    void listReturnsNotModifiedWithoutLoadingWhenVersionIsUnchanged() throws Exception {
+        givenListVersion(3);
+        String etag = listETag(null);
+
+        mockMvc.perform(get("/api/v1/comment/post/{postUuid}/list", POST_UUID)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(commentService, never()).getCommentsByPostUuid(any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void listETagDependsOnMember() throws Exception {
+        givenListVersion(3);
+        String anonymous = listETag(null);
+        String member = listETag(MEMBER_UUID);
+        assertThat(member).isNotEqualTo(anonymous);
+
+        // 비회원 응답의 ETag 로는 likedByMe 가 포함된 회원 응답을 304 로 받을 수 없다.
+        mockMvc.perform(get("/api/v1/comment/post/{postUuid}/list", POST_UUID)
+                        .header("X-Member-UUID", MEMBER_UUID)
+                        .header(HttpHeaders.IF_NONE_MATCH, anonymous))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, member));
+
+        mockMvc.perform(get("/api/v1/comment/post/{postUuid}/list", POST_UUID)
+                        .header("X-Member-UUID", MEMBER_UUID)
+                        .header(HttpHeaders.IF_NONE_MATCH, member))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void listReturnsOkAfterVersionBump() throws Exception {
+        givenListVersion(3);
+        String before = listETag(null);
+
+        // 좋아요 등 댓글 수가 바뀌지 않는 변경도 PostCommentVersionTracker 가 version 을 올린다.
+        givenListVersion(4);
+        mockMvc.perform(get("/api/v1/comment/post/{postUuid}/list", POST_UUID)
+                        .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v4\""));
+    }
+
+    @Test
+    void listWithoutCounterIsAlwaysLoaded() throws Exception {
+        when(commentService.getCommentListVersion(POST_UUID)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/comment/post/{postUuid}/list", POST_UUID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        verify(commentService).getCommentsByPostUuid(eq(POST_UUID), anyInt(), any(), isNull(), isNull());
+    }
+
+    @Test
+    void detailETagChangesWhenLikeCountChanges() throws Exception {
+        givenComment(5);
+        String before = mockMvc.perform(get("/api/v1/comment/{commentUuid}", COMMENT_UUID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/comment/{commentUuid}", COMMENT_UUID)
+                        .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isNotModified());
+
+        // 좋아요는 updatedAt 을 바꾸지 않으므로 ETag 의 좋아요 수로 변경을 알린다.
+        givenComment(6);
+        mockMvc.perform(get("/api/v1/comment/{commentUuid}", COMMENT_UUID)
+                        .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk());
+    }
+
+    private void givenListVersion(long version) {
+        when(commentService.getCommentListVersion(POST_UUID)).thenReturn(Optional.of(
+                PostCommentVersionResDto.builder()
+                        .postUuid(POST_UUID)
+                        .version(version)
+                        .lastModifiedAt(UPDATED_AT)
+                        .build()));
+    }
+
+    private void givenComment(long likeCount) {
+        when(commentService.getCommentByCommentUuid(COMMENT_UUID)).thenReturn(CommentResDto.builder()
+                .commentUuid(COMMENT_UUID)
+                .postUuid(POST_UUID)
+                .likeCount(likeCount)
+                .createdAt(UPDATED_AT)
+                .updatedAt(UPDATED_AT)
+                .build());
+    }
+
+    private String listETag(String memberUuid) throws Exception {
+        var request = get("/api/v1/comment/post/{postUuid}/list", POST_UUID);
+        if (memberUuid != null) {
+            request.header("X-Member-UUID", memberUuid);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}